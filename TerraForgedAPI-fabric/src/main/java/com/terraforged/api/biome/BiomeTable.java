@@ -0,0 +1,65 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2020 TerraForged
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.terraforged.api.biome;
+
+import net.minecraft.util.registry.Registry;
+import net.minecraft.world.biome.Biome;
+
+import java.util.function.Function;
+
+/**
+ * Immutable biome -> value lookup indexed by biome raw id.
+ * Biomes registered after the table was built fall through to get() returning null.
+ */
+public class BiomeTable<T> {
+
+    private final Object[] values;
+
+    private BiomeTable(Object[] values) {
+        this.values = values;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(Biome biome) {
+        int id = Registry.BIOME.getRawId(biome);
+        if (id < 0 || id >= values.length) {
+            return null;
+        }
+        return (T) values[id];
+    }
+
+    public static <T> BiomeTable<T> of(Function<Biome, T> func) {
+        int size = 0;
+        for (Biome biome : Registry.BIOME) {
+            size = Math.max(size, Registry.BIOME.getRawId(biome) + 1);
+        }
+        Object[] values = new Object[size];
+        for (Biome biome : Registry.BIOME) {
+            values[Registry.BIOME.getRawId(biome)] = func.apply(biome);
+        }
+        return new BiomeTable<>(values);
+    }
+}
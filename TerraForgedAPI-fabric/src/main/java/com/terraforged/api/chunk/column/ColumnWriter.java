@@ -0,0 +1,154 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2020 TerraForged
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.terraforged.api.chunk.column;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.ProtoChunk;
+
+/**
+ * Writes blocks straight into a ProtoChunk's section storage, skipping the per-block heightmap
+ * and light-source bookkeeping that Chunk.setBlockState performs. Heightmaps are recomputed
+ * once for the whole chunk when {@link #flush()} is called.
+ *
+ * Light-emitting states (ie lava) and non-proto chunks fall back to Chunk.setBlockState.
+ */
+public class ColumnWriter {
+
+    private final Chunk chunk;
+    private final boolean direct;
+    private final ChunkSection[] sections;
+    private final BlockPos.Mutable pos = new BlockPos.Mutable();
+
+    private boolean dirty = false;
+
+    public ColumnWriter(Chunk chunk) {
+        this.chunk = chunk;
+        this.direct = chunk instanceof ProtoChunk;
+        this.sections = chunk.getSectionArray();
+    }
+
+    public Chunk getChunk() {
+        return chunk;
+    }
+
+    public void set(int x, int y, int z, BlockState state) {
+        if (y < 0 || y > 255) {
+            return;
+        }
+        if (!direct || state.getLuminance() != 0) {
+            chunk.setBlockState(pos.set(x, y, z), state, false);
+            return;
+        }
+        getSection(y >> 4).setBlockState(x & 15, y & 15, z & 15, state, false);
+        dirty = true;
+    }
+
+    /**
+     * Fills the column at x,z from the 'from' y-coord (inclusive) down to the 'to' y-coord (exclusive)
+     */
+    public void fillDown(int x, int z, int from, int to, BlockState state) {
+        from = Math.min(from, 255);
+        to = Math.max(to, -1);
+        if (from <= to) {
+            return;
+        }
+
+        if (!direct || state.getLuminance() != 0) {
+            for (int y = from; y > to; y--) {
+                chunk.setBlockState(pos.set(x, y, z), state, false);
+            }
+            return;
+        }
+
+        int dx = x & 15;
+        int dz = z & 15;
+        int y = from;
+        while (y > to) {
+            int sectionY = y >> 4;
+            int sectionMin = Math.max(sectionY << 4, to + 1);
+            ChunkSection section = getSection(sectionY);
+            for (; y >= sectionMin; y--) {
+                section.setBlockState(dx, y & 15, dz, state, false);
+            }
+        }
+        dirty = true;
+    }
+
+    /**
+     * Fills an entire 16x16x16 chunk section with the given state
+     */
+    public void fillSection(int sectionY, BlockState state) {
+        if (sectionY < 0 || sectionY >= sections.length) {
+            return;
+        }
+
+        if (!direct || state.getLuminance() != 0) {
+            int minY = sectionY << 4;
+            for (int dz = 0; dz < 16; dz++) {
+                for (int dx = 0; dx < 16; dx++) {
+                    for (int dy = 15; dy >= 0; dy--) {
+                        chunk.setBlockState(pos.set(dx, minY + dy, dz), state, false);
+                    }
+                }
+            }
+            return;
+        }
+
+        // iterate in the section's storage order (y, z, x)
+        ChunkSection section = getSection(sectionY);
+        for (int dy = 0; dy < 16; dy++) {
+            for (int dz = 0; dz < 16; dz++) {
+                for (int dx = 0; dx < 16; dx++) {
+                    section.setBlockState(dx, dy, dz, state, false);
+                }
+            }
+        }
+        dirty = true;
+    }
+
+    /**
+     * Recomputes the chunk's heightmaps if any blocks were written directly to its sections
+     */
+    public void flush() {
+        if (dirty) {
+            dirty = false;
+            Heightmap.populateHeightmaps(chunk, chunk.getStatus().getHeightmapTypes());
+        }
+    }
+
+    private ChunkSection getSection(int sectionY) {
+        ChunkSection section = sections[sectionY];
+        if (section == null) {
+            section = new ChunkSection(sectionY << 4);
+            sections[sectionY] = section;
+        }
+        return section;
+    }
+}
@@ -26,6 +26,7 @@
 package com.terraforged.api.chunk.surface;
 
 import com.terraforged.api.chunk.ChunkDelegate;
+import com.terraforged.api.chunk.column.ColumnWriter;
 import net.minecraft.block.BlockState;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.chunk.Chunk;
@@ -35,9 +36,11 @@ public class ChunkSurfaceBuffer implements ChunkDelegate {
     private int surfaceTop;
     private int surfaceBottom;
     private final Chunk delegate;
+    private final ColumnWriter writer;
 
     public ChunkSurfaceBuffer(Chunk chunk) {
         this.delegate = chunk;
+        this.writer = new ColumnWriter(chunk);
     }
 
     @Override
@@ -57,6 +60,14 @@ public class ChunkSurfaceBuffer implements ChunkDelegate {
         return getDelegate().setBlockState(pos, state, isMoving);
     }
 
+    /**
+     * Bulk writer for filling below the surface. Writes made through it are not tracked by
+     * the surface top/bottom and heightmaps are only updated once the writer is flushed.
+     */
+    public ColumnWriter getWriter() {
+        return writer;
+    }
+
     public int getSurfaceTop() {
         return surfaceTop;
     }
@@ -25,6 +25,7 @@
 
 package com.terraforged.api.chunk.surface;
 
+import com.terraforged.api.biome.BiomeTable;
 import com.terraforged.api.chunk.surface.builder.Delegate;
 import net.minecraft.world.biome.Biome;
 
@@ -34,17 +35,30 @@ import java.util.Map;
 public class SurfaceManager {
 
     private final Map<Biome, Surface> surfaces = new HashMap<>();
+    private volatile BiomeTable<Surface> table = null;
 
-    public SurfaceManager replace(Biome biome, Surface surface) {
+    public synchronized SurfaceManager replace(Biome biome, Surface surface) {
         surfaces.put(biome, surface);
+        if (table != null) {
+            freeze();
+        }
         return this;
     }
 
-    public SurfaceManager extend(Biome biome, Surface surface) {
+    public synchronized SurfaceManager extend(Biome biome, Surface surface) {
         Surface result = getOrCreateSurface(biome).then(surface);
         return replace(biome, result);
     }
 
+    /**
+     * Bakes a surface for every registered biome into a table indexed by biome id so that
+     * chunk workers can look surfaces up without locking
+     */
+    public synchronized SurfaceManager freeze() {
+        table = BiomeTable.of(biome -> surfaces.computeIfAbsent(biome, Delegate.FUNC));
+        return this;
+    }
+
     public Surface getSurface(SurfaceContext context) {
         if (context.biome == context.cached.biome) {
             return context.cached.surface;
@@ -55,6 +69,15 @@ public class SurfaceManager {
     }
 
     public Surface getOrCreateSurface(Biome biome) {
-        return surfaces.computeIfAbsent(biome, Delegate.FUNC);
+        BiomeTable<Surface> table = this.table;
+        if (table != null) {
+            Surface surface = table.get(biome);
+            if (surface != null) {
+                return surface;
+            }
+        }
+        synchronized (this) {
+            return surfaces.computeIfAbsent(biome, Delegate.FUNC);
+        }
     }
 }
@@ -0,0 +1,115 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2020 TerraForged
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.terraforged.app.mesh;
+
+import java.util.Random;
+
+/**
+ * Headless comparison of the full-resolution SurfaceMesher against the LodMesher across a range of view sizes and
+ * camera distances. Prints the vertex count and average build time per view.
+ */
+public class LodBenchmark {
+
+    private static final int WARMUP = 5;
+    private static final int RUNS = 20;
+
+    public static void main(String[] args) {
+        int[] sizes = {128, 256, 512};
+        float[] distances = {250F, 500F, 1000F};
+
+        System.out.printf("%6s %8s %10s %10s %10s %10s%n", "size", "eye-z", "full-vert", "full-ms", "lod-vert", "lod-ms");
+        for (int size : sizes) {
+            float cell = 800F / (size - 1);
+            float[] heights = heightfield(size, 12345L);
+
+            SurfaceMesher full = new SurfaceMesher(size, cell, cell);
+            LodMesher lod = new LodMesher(size, cell, cell);
+            for (int i = 0; i < heights.length; i++) {
+                int x = i % size;
+                int y = i / size;
+                full.set(x, y, heights[i], 0xFFFFFFFF);
+                lod.set(x, y, heights[i], 0xFFFFFFFF);
+            }
+
+            QuadBuffer buffer = new QuadBuffer(size * size);
+            float centre = (size - 1) * cell * 0.5F;
+            for (float distance : distances) {
+                // the app's default camera, 0.866 * screen height from the projection plane
+                float focalLength = 600F * 0.866F;
+
+                long fullNanos = time(() -> full.build(buffer));
+                int fullVertices = buffer.getVertexCount();
+
+                long lodNanos = time(() -> lod.build(centre, centre, distance, focalLength, buffer));
+                int lodVertices = buffer.getVertexCount();
+
+                System.out.printf("%6d %8.0f %10d %10.3f %10d %10.3f%n", size, distance, fullVertices, fullNanos / 1e6,
+                        lodVertices, lodNanos / 1e6);
+            }
+        }
+    }
+
+    private static long time(Runnable task) {
+        for (int i = 0; i < WARMUP; i++) {
+            task.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            task.run();
+        }
+        return (System.nanoTime() - start) / RUNS;
+    }
+
+    // a few octaves of bilinear value noise, roughly the shape of the app's terrain
+    private static float[] heightfield(int size, long seed) {
+        Random random = new Random(seed);
+        float[] heights = new float[size * size];
+        float amplitude = 64F;
+        for (int scale = size / 2; scale >= 4; scale /= 2, amplitude *= 0.5F) {
+            int lattice = size / scale + 2;
+            float[] values = new float[lattice * lattice];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextFloat() * amplitude;
+            }
+            for (int y = 0; y < size; y++) {
+                for (int x = 0; x < size; x++) {
+                    int lx = x / scale;
+                    int ly = y / scale;
+                    float fx = (x % scale) / (float) scale;
+                    float fy = (y % scale) / (float) scale;
+                    float v0 = lerp(values[ly * lattice + lx], values[ly * lattice + lx + 1], fx);
+                    float v1 = lerp(values[(ly + 1) * lattice + lx], values[(ly + 1) * lattice + lx + 1], fx);
+                    heights[y * size + x] += lerp(v0, v1, fy);
+                }
+            }
+        }
+        return heights;
+    }
+
+    private static float lerp(float a, float b, float t) {
+        return a + (b - a) * t;
+    }
+}
@@ -36,8 +36,20 @@ import com.terraforged.core.world.biome.BiomeType;
 import com.terraforged.core.world.terrain.Terrain;
 import com.terraforged.core.world.terrain.Terrains;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 public class Cache {
 
+    private static final int VIEW_SIZE = 128;
+    private static final int TILE_FACTOR = 2;
+    private static final int TILE_SIZE = 16 << TILE_FACTOR;
+    private static final int MAX_TILES = 512;
+    // filtered regions are twice the width of the view so it can pan a quarter of a region either way before another is needed
+    private static final int FILTERED_FACTOR = 4;
+    private static final int FILTERED_SIZE = 16 << FILTERED_FACTOR;
+
     private float offsetX = 0;
     private float offsetZ = 0;
     private float zoom = 0F;
@@ -45,8 +57,22 @@ public class Cache {
     private Terrains terrain;
     private Settings settings;
     private GeneratorContext context;
-    private Region region;
+    private View view;
     private RegionGenerator renderer;
+    private RegionGenerator filteredRenderer;
+    // the region generated when filters are enabled, and the pixel it is centred on
+    private CompletableFuture<Region> filtered;
+    private int filteredX;
+    private int filteredZ;
+    private float filteredZoom;
+    // generates tiles a couple at a time, the chunks within each tile are spread over the common pool
+    private final ThreadPool scheduler = new ThreadPool(2);
+    private final Map<TileKey, CompletableFuture<Region>> tiles = new LinkedHashMap<TileKey, CompletableFuture<Region>>(MAX_TILES, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<TileKey, CompletableFuture<Region>> eldest) {
+            return size() > MAX_TILES;
+        }
+    };
 
     public Cache(int seed) {
         Settings settings = new Settings();
@@ -57,7 +83,16 @@ public class Cache {
         this.renderer = RegionGenerator.builder()
                 .factory(new WorldGeneratorFactory(context))
                 .pool(ThreadPool.getCommon())
-                .size(3, 2)
+                .size(TILE_FACTOR, 1)
+                .build();
+        // erosion can't be applied to tiles independently without seams at their edges & a density that depends on
+        // the tile size, so filtered views are generated as a single region (with the full two-chunk filter border)
+        // that is eroded at the same density as the game's size(3, 2) regions
+        this.filteredRenderer = RegionGenerator.builder()
+                .factory(new WorldGeneratorFactory(context))
+                .pool(ThreadPool.getCommon())
+                .size(FILTERED_FACTOR, 2)
+                .filterDensity(3, 2)
                 .build();
     }
 
@@ -83,41 +118,159 @@ public class Cache {
     }
 
     public Cell<Terrain> getCenterCell() {
-        int center = region.getBlockSize().size / 2;
-        return region.getCell(center, center);
+        int center = view.getSize() / 2;
+        return view.getCell(center, center);
     }
 
-    public Region getRegion() {
-        return region;
+    public View getView() {
+        return view;
     }
 
     public void update(float offsetX, float offsetZ, float zoom, boolean filters) {
-        if (region == null) {
-            record(offsetX, offsetZ, zoom, filters);
+        if (view != null && this.offsetX == offsetX && this.offsetZ == offsetZ && this.zoom == zoom && this.filter == filters) {
             return;
         }
-        if (this.offsetX != offsetX || this.offsetZ != offsetZ) {
-            record(offsetX, offsetZ, zoom, filters);
-            return;
-        }
-        if (this.zoom != zoom) {
-            record(offsetX, offsetZ, zoom, filters);
+
+        View next = compose(offsetX, offsetZ, zoom, filters);
+        if (next == null) {
+            // keep showing the current view until the newly exposed tiles are ready
             return;
         }
-        if (this.filter != filters) {
-            record(offsetX, offsetZ, zoom, filters);
-        }
-    }
 
-    private void record(float offsetX, float offsetZ, float zoom, boolean filters) {
+        this.view = next;
         this.zoom = zoom;
         this.filter = filters;
         this.offsetX = offsetX;
         this.offsetZ = offsetZ;
+    }
+
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    private View compose(float offsetX, float offsetZ, float zoom, boolean filters) {
+        if (filters) {
+            return composeFiltered(offsetX, offsetZ, zoom);
+        }
+
+        // the view's origin in 'pixel' space, where one pixel is one sample at the given zoom
+        int minX = Math.round(offsetX / zoom) - VIEW_SIZE / 2;
+        int minZ = Math.round(offsetZ / zoom) - VIEW_SIZE / 2;
+        int tileMinX = Math.floorDiv(minX, TILE_SIZE);
+        int tileMinZ = Math.floorDiv(minZ, TILE_SIZE);
+        int tilesWide = View.tilesWide(VIEW_SIZE, TILE_SIZE);
+
+        boolean complete = true;
+        Region[] regions = new Region[tilesWide * tilesWide];
+        for (int dz = 0; dz < tilesWide; dz++) {
+            for (int dx = 0; dx < tilesWide; dx++) {
+                TileKey key = new TileKey(tileMinX + dx, tileMinZ + dz, zoom);
+                CompletableFuture<Region> tile = getTile(key);
+                // nothing is shown until the first view is ready so wait for it
+                if (view != null && !tile.isDone()) {
+                    complete = false;
+                    continue;
+                }
+                try {
+                    regions[dz * tilesWide + dx] = tile.join();
+                } catch (Throwable t) {
+                    t.printStackTrace();
+                    tiles.remove(key);
+                    complete = false;
+                }
+            }
+        }
+
+        if (!complete) {
+            return null;
+        }
+
+        return new View(VIEW_SIZE, TILE_SIZE, minX, minZ, regions);
+    }
+
+    private View composeFiltered(float offsetX, float offsetZ, float zoom) {
+        int minX = Math.round(offsetX / zoom) - VIEW_SIZE / 2;
+        int minZ = Math.round(offsetZ / zoom) - VIEW_SIZE / 2;
+
+        // the last region is reused while the view still fits inside it, and only one is generated at a time
+        if (!isFilteredAt(minX, minZ, zoom) && (filtered == null || filtered.isDone())) {
+            // centre on a whole pixel so that the view's offset into the region is exact
+            int centerX = minX + VIEW_SIZE / 2;
+            int centerZ = minZ + VIEW_SIZE / 2;
+            filteredX = centerX;
+            filteredZ = centerZ;
+            filteredZoom = zoom;
+            filtered = CompletableFuture.supplyAsync(() -> filteredRenderer.generateRegion(centerX * zoom, centerZ * zoom, zoom, true), scheduler);
+            // a failed region isn't retried until the view moves outside of it, so only report it the once
+            filtered.exceptionally(t -> {
+                t.printStackTrace();
+                return null;
+            });
+        }
+
+        // nothing is shown until the first view is ready so wait for it
+        if (!isFilteredAt(minX, minZ, zoom) || (view != null && !filtered.isDone())) {
+            return null;
+        }
+
         try {
-            this.region = renderer.generateRegion(offsetX, offsetZ, zoom, filters);
+            Region region = filtered.join();
+            int regionMinX = filteredX - FILTERED_SIZE / 2;
+            int regionMinZ = filteredZ - FILTERED_SIZE / 2;
+            return new View(VIEW_SIZE, FILTERED_SIZE, minX - regionMinX, minZ - regionMinZ, new Region[]{region});
         } catch (Throwable t) {
-            t.printStackTrace();
+            return null;
+        }
+    }
+
+    private boolean isFilteredAt(int minX, int minZ, float zoom) {
+        if (filtered == null || filteredZoom != zoom) {
+            return false;
+        }
+        int regionMinX = filteredX - FILTERED_SIZE / 2;
+        int regionMinZ = filteredZ - FILTERED_SIZE / 2;
+        return minX >= regionMinX && minX + VIEW_SIZE <= regionMinX + FILTERED_SIZE
+                && minZ >= regionMinZ && minZ + VIEW_SIZE <= regionMinZ + FILTERED_SIZE;
+    }
+
+    private CompletableFuture<Region> getTile(TileKey key) {
+        return tiles.computeIfAbsent(key, k -> {
+            float centerX = (k.x * TILE_SIZE + TILE_SIZE / 2F) * k.zoom;
+            float centerZ = (k.z * TILE_SIZE + TILE_SIZE / 2F) * k.zoom;
+            return CompletableFuture.supplyAsync(() -> renderer.generateRegion(centerX, centerZ, k.zoom, false), scheduler);
+        });
+    }
+
+    private static class TileKey {
+
+        private final int x;
+        private final int z;
+        private final float zoom;
+
+        private TileKey(int x, int z, float zoom) {
+            this.x = x;
+            this.z = z;
+            this.zoom = zoom;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TileKey)) {
+                return false;
+            }
+            TileKey other = (TileKey) o;
+            return x == other.x && z == other.z && zoom == other.zoom;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = x;
+            result = 31 * result + z;
+            result = 31 * result + Float.floatToIntBits(zoom);
+            return result;
         }
     }
 }
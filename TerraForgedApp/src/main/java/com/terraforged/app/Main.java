@@ -74,6 +74,9 @@ public class Main extends Applet {
 
     public void setSeed(int seed) {
         Main.seed = seed;
+        if (cache != null) {
+            cache.shutdown();
+        }
         cache = new Cache(seed);
         System.out.println(seed);
     }
@@ -161,7 +164,7 @@ public class Main extends Applet {
     }
 
     private void drawStats() {
-        int resolution = cache.getRegion().getBlockSize().size;
+        int resolution = cache.getView().getSize();
         int blocks = NoiseUtil.round(resolution * controller.zoomLevel());
 
         String[][] info = {
@@ -0,0 +1,72 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2020 TerraForged
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.terraforged.app;
+
+import com.terraforged.core.cell.Cell;
+import com.terraforged.core.region.Region;
+import com.terraforged.core.world.terrain.Terrain;
+
+/**
+ * A square window of cells composited from the cache's tiles
+ */
+public class View {
+
+    private final int size;
+    private final int tileSize;
+    private final int tileMinX;
+    private final int tileMinZ;
+    private final int tilesWide;
+    private final int offsetX;
+    private final int offsetZ;
+    private final Region[] tiles;
+
+    View(int size, int tileSize, int minX, int minZ, Region[] tiles) {
+        this.size = size;
+        this.tileSize = tileSize;
+        this.tileMinX = Math.floorDiv(minX, tileSize);
+        this.tileMinZ = Math.floorDiv(minZ, tileSize);
+        this.tilesWide = tilesWide(size, tileSize);
+        this.offsetX = minX - tileMinX * tileSize;
+        this.offsetZ = minZ - tileMinZ * tileSize;
+        this.tiles = tiles;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public Cell<Terrain> getCell(int x, int z) {
+        int px = offsetX + x;
+        int pz = offsetZ + z;
+        Region tile = tiles[(pz / tileSize) * tilesWide + (px / tileSize)];
+        return tile.getCell(px % tileSize, pz % tileSize);
+    }
+
+    static int tilesWide(int size, int tileSize) {
+        // +1 to cover views that straddle tile boundaries
+        return size / tileSize + 1;
+    }
+}
@@ -0,0 +1,388 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2020 TerraForged
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.terraforged.app.mesh;
+
+import java.util.Arrays;
+
+/**
+ * Builds a view-dependent quadtree mesh of a square heightfield.
+ *
+ * Each quadtree node stores the largest vertical error introduced by not subdividing it (saturated up the tree) along
+ * with the height range it covers. A node is split when its error, scaled up by its steepness, projects to more than
+ * {@link #tolerance(float)} pixels from the eye. The tree is then balanced so that neighbouring leaves differ by at most
+ * one level, which lets each leaf be emitted as four quads around its centre with T-junction free edges.
+ */
+public class LodMesher {
+
+    private final int size;
+    private final int rootSize;
+    private final int maxLevel;
+    private final float cellWidth;
+    private final float cellDepth;
+    private final float[] heights;
+    private final int[] colors;
+    private final float[][] error;
+    private final float[][] minHeight;
+    private final float[][] maxHeight;
+    private final boolean[][] split;
+
+    private float tolerance = 1F;
+    private float steepness = 1F;
+    private boolean dirty = true;
+
+    public LodMesher(int size, float cellWidth, float cellDepth) {
+        this.size = size;
+        this.rootSize = rootSize(size);
+        this.maxLevel = Integer.numberOfTrailingZeros(rootSize) - 1;
+        this.cellWidth = cellWidth;
+        this.cellDepth = cellDepth;
+        this.heights = new float[size * size];
+        this.colors = new int[size * size];
+        this.error = new float[maxLevel + 1][];
+        this.minHeight = new float[maxLevel + 1][];
+        this.maxHeight = new float[maxLevel + 1][];
+        this.split = new boolean[maxLevel + 1][];
+        for (int level = 0; level <= maxLevel; level++) {
+            int nodes = 1 << (level * 2);
+            error[level] = new float[nodes];
+            minHeight[level] = new float[nodes];
+            maxHeight[level] = new float[nodes];
+            split[level] = new boolean[nodes];
+        }
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * The maximum projected error, in pixels, permitted before a node is subdivided
+     */
+    public LodMesher tolerance(float tolerance) {
+        this.tolerance = tolerance;
+        return this;
+    }
+
+    /**
+     * How strongly a node's slope scales up its error (0 = screen-space error only)
+     */
+    public LodMesher steepness(float steepness) {
+        this.steepness = steepness;
+        return this;
+    }
+
+    public void set(int x, int y, float height, int color) {
+        int index = y * size + x;
+        heights[index] = height;
+        colors[index] = color;
+        dirty = true;
+    }
+
+    public QuadBuffer build(float eyeX, float eyeY, float eyeZ, float focalLength) {
+        return build(eyeX, eyeY, eyeZ, focalLength, new QuadBuffer(size * 4));
+    }
+
+    /**
+     * @param eyeX        eye position in mesh space
+     * @param eyeY        eye position in mesh space
+     * @param eyeZ        eye position in mesh space
+     * @param focalLength distance, in pixels, from the eye to the projection plane
+     */
+    public QuadBuffer build(float eyeX, float eyeY, float eyeZ, float focalLength, QuadBuffer buffer) {
+        if (dirty) {
+            computeErrors();
+            dirty = false;
+        }
+
+        for (boolean[] level : split) {
+            Arrays.fill(level, false);
+        }
+
+        selectNodes(eyeX, eyeY, eyeZ, focalLength);
+        balance();
+
+        buffer.clear();
+        emit(buffer, 0, 0, 0);
+        return buffer;
+    }
+
+    private void computeErrors() {
+        for (int level = maxLevel; level >= 0; level--) {
+            int nodes = 1 << level;
+            int nodeSize = rootSize >> level;
+            int half = nodeSize / 2;
+            for (int j = 0; j < nodes; j++) {
+                for (int i = 0; i < nodes; i++) {
+                    int index = j * nodes + i;
+                    int x0 = i * nodeSize;
+                    int y0 = j * nodeSize;
+                    int x1 = x0 + nodeSize;
+                    int y1 = y0 + nodeSize;
+
+                    float h00 = height(x0, y0);
+                    float h10 = height(x1, y0);
+                    float h11 = height(x1, y1);
+                    float h01 = height(x0, y1);
+
+                    // error of the vertices that splitting this node would introduce
+                    float err = 0F;
+                    err = Math.max(err, Math.abs(height(x0 + half, y0) - (h00 + h10) * 0.5F));
+                    err = Math.max(err, Math.abs(height(x1, y0 + half) - (h10 + h11) * 0.5F));
+                    err = Math.max(err, Math.abs(height(x0 + half, y1) - (h01 + h11) * 0.5F));
+                    err = Math.max(err, Math.abs(height(x0, y0 + half) - (h00 + h01) * 0.5F));
+                    err = Math.max(err, Math.abs(height(x0 + half, y0 + half) - (h00 + h10 + h11 + h01) * 0.25F));
+
+                    float min, max;
+                    if (level == maxLevel) {
+                        min = Float.MAX_VALUE;
+                        max = -Float.MAX_VALUE;
+                        for (int y = y0; y <= y1; y++) {
+                            for (int x = x0; x <= x1; x++) {
+                                float h = height(x, y);
+                                min = Math.min(min, h);
+                                max = Math.max(max, h);
+                            }
+                        }
+                    } else {
+                        int child = level + 1;
+                        int childNodes = nodes * 2;
+                        int c00 = (j * 2) * childNodes + (i * 2);
+                        int c10 = c00 + 1;
+                        int c01 = c00 + childNodes;
+                        int c11 = c01 + 1;
+                        err = max(err, error[child][c00], error[child][c10], error[child][c01], error[child][c11]);
+                        min = -max(-minHeight[child][c00], -minHeight[child][c10], -minHeight[child][c01], -minHeight[child][c11]);
+                        max = max(maxHeight[child][c00], maxHeight[child][c10], maxHeight[child][c01], maxHeight[child][c11]);
+                    }
+
+                    error[level][index] = err;
+                    minHeight[level][index] = min;
+                    maxHeight[level][index] = max;
+                }
+            }
+        }
+    }
+
+    private void selectNodes(float eyeX, float eyeY, float eyeZ, float focalLength) {
+        split[0][0] = maxLevel > 0 && isVisible(0, 0) && (overhangs(0, 0, 0) || shouldSplit(0, 0, 0, eyeX, eyeY, eyeZ, focalLength));
+        for (int level = 1; level < maxLevel; level++) {
+            int nodes = 1 << level;
+            int parentNodes = nodes / 2;
+            for (int j = 0; j < nodes; j++) {
+                for (int i = 0; i < nodes; i++) {
+                    if (!split[level - 1][(j / 2) * parentNodes + (i / 2)]) {
+                        continue;
+                    }
+                    if (isVisible(i * (rootSize >> level), j * (rootSize >> level))) {
+                        split[level][j * nodes + i] = overhangs(level, i, j) || shouldSplit(level, i, j, eyeX, eyeY, eyeZ, focalLength);
+                    }
+                }
+            }
+        }
+    }
+
+    // nodes crossing the grid's far edges are refined down to the finest level so that clamping can't distort them
+    private boolean overhangs(int level, int i, int j) {
+        int nodeSize = rootSize >> level;
+        return (i + 1) * nodeSize > size - 1 || (j + 1) * nodeSize > size - 1;
+    }
+
+    private boolean shouldSplit(int level, int i, int j, float eyeX, float eyeY, float eyeZ, float focalLength) {
+        int index = j * (1 << level) + i;
+        int nodeSize = rootSize >> level;
+        float width = nodeSize * cellWidth;
+        float depth = nodeSize * cellDepth;
+        float min = minHeight[level][index];
+        float max = maxHeight[level][index];
+
+        float dx = (i * nodeSize + nodeSize * 0.5F) * cellWidth - eyeX;
+        float dy = (j * nodeSize + nodeSize * 0.5F) * cellDepth - eyeY;
+        float dz = (min + max) * 0.5F - eyeZ;
+        float radius = 0.5F * (float) Math.sqrt(width * width + depth * depth + (max - min) * (max - min));
+        float distance = Math.max((float) Math.sqrt(dx * dx + dy * dy + dz * dz) - radius, Math.min(cellWidth, cellDepth));
+
+        float slope = (max - min) / Math.max(width, depth);
+        float err = error[level][index] * (1F + steepness * slope);
+
+        return err * focalLength / distance > tolerance;
+    }
+
+    // ensures no leaf borders another leaf more than one level finer than itself
+    private void balance() {
+        for (int level = maxLevel - 2; level >= 0; level--) {
+            int nodes = 1 << level;
+            int childNodes = nodes * 2;
+            for (int j = 0; j < nodes; j++) {
+                for (int i = 0; i < nodes; i++) {
+                    if (!split[level][j * nodes + i]) {
+                        continue;
+                    }
+                    int c00 = (j * 2) * childNodes + (i * 2);
+                    int c01 = c00 + childNodes;
+                    boolean[] children = split[level + 1];
+                    if (!children[c00] && !children[c00 + 1] && !children[c01] && !children[c01 + 1]) {
+                        continue;
+                    }
+                    forceSplit(level, i - 1, j);
+                    forceSplit(level, i + 1, j);
+                    forceSplit(level, i, j - 1);
+                    forceSplit(level, i, j + 1);
+                }
+            }
+        }
+    }
+
+    private void forceSplit(int level, int i, int j) {
+        int nodes = 1 << level;
+        if (i < 0 || j < 0 || i >= nodes || j >= nodes) {
+            return;
+        }
+        for (; level >= 0; level--, i /= 2, j /= 2) {
+            int index = j * (1 << level) + i;
+            if (split[level][index]) {
+                return;
+            }
+            split[level][index] = true;
+        }
+    }
+
+    private void emit(QuadBuffer buffer, int level, int i, int j) {
+        int nodeSize = rootSize >> level;
+        int x0 = i * nodeSize;
+        int y0 = j * nodeSize;
+        if (!isVisible(x0, y0)) {
+            return;
+        }
+
+        if (split[level][j * (1 << level) + i]) {
+            emit(buffer, level + 1, i * 2, j * 2);
+            emit(buffer, level + 1, i * 2 + 1, j * 2);
+            emit(buffer, level + 1, i * 2, j * 2 + 1);
+            emit(buffer, level + 1, i * 2 + 1, j * 2 + 1);
+            return;
+        }
+
+        int half = nodeSize / 2;
+        int xm = x0 + half;
+        int ym = y0 + half;
+        int x1 = x0 + nodeSize;
+        int y1 = y0 + nodeSize;
+
+        // edge mid-points only take their true height when the neighbour on that side is finer, otherwise they
+        // lie on the straight edge shared with the neighbour so no cracks open up between them
+        boolean overX = x1 > size - 1;
+        boolean overY = y1 > size - 1;
+        boolean north = overX || isSplit(level, i, j - 1);
+        boolean east = overY || isSplit(level, i + 1, j);
+        boolean south = overX || isSplit(level, i, j + 1);
+        boolean west = overY || isSplit(level, i - 1, j);
+
+        // overhanging leaves are always finest-level so their mid-points are real samples, but their far half can
+        // collapse onto the grid's edge
+        boolean right = clamp(xm) != clamp(x1);
+        boolean bottom = clamp(ym) != clamp(y1);
+
+        // q1: c00, north, centre, west
+        vertex(buffer, x0, y0);
+        edgeVertex(buffer, xm, y0, x0, y0, x1, y0, north);
+        vertex(buffer, xm, ym);
+        edgeVertex(buffer, x0, ym, x0, y0, x0, y1, west);
+
+        if (right) {
+            // q2: north, c10, east, centre
+            edgeVertex(buffer, xm, y0, x0, y0, x1, y0, north);
+            vertex(buffer, x1, y0);
+            edgeVertex(buffer, x1, ym, x1, y0, x1, y1, east);
+            vertex(buffer, xm, ym);
+        }
+
+        if (right && bottom) {
+            // q3: centre, east, c11, south
+            vertex(buffer, xm, ym);
+            edgeVertex(buffer, x1, ym, x1, y0, x1, y1, east);
+            vertex(buffer, x1, y1);
+            edgeVertex(buffer, xm, y1, x0, y1, x1, y1, south);
+        }
+
+        if (bottom) {
+            // q4: west, centre, south, c01
+            edgeVertex(buffer, x0, ym, x0, y0, x0, y1, west);
+            vertex(buffer, xm, ym);
+            edgeVertex(buffer, xm, y1, x0, y1, x1, y1, south);
+            vertex(buffer, x0, y1);
+        }
+    }
+
+    private boolean isSplit(int level, int i, int j) {
+        int nodes = 1 << level;
+        return i >= 0 && j >= 0 && i < nodes && j < nodes && split[level][j * nodes + i];
+    }
+
+    // nodes that start beyond the last grid row/column hold no data
+    private boolean isVisible(int x0, int y0) {
+        return x0 < size - 1 && y0 < size - 1;
+    }
+
+    private void vertex(QuadBuffer buffer, int x, int y) {
+        x = clamp(x);
+        y = clamp(y);
+        int index = y * size + x;
+        buffer.vertex(x * cellWidth, y * cellDepth, heights[index], colors[index]);
+    }
+
+    private void edgeVertex(QuadBuffer buffer, int x, int y, int ax, int ay, int bx, int by, boolean exact) {
+        if (exact) {
+            vertex(buffer, x, y);
+            return;
+        }
+        x = clamp(x);
+        y = clamp(y);
+        float height = (height(ax, ay) + height(bx, by)) * 0.5F;
+        buffer.vertex(x * cellWidth, y * cellDepth, height, colors[y * size + x]);
+    }
+
+    private float height(int x, int y) {
+        return heights[clamp(y) * size + clamp(x)];
+    }
+
+    private int clamp(int value) {
+        return value < 0 ? 0 : value >= size ? size - 1 : value;
+    }
+
+    private static float max(float a, float b, float c, float d, float e) {
+        return Math.max(Math.max(Math.max(a, b), Math.max(c, d)), e);
+    }
+
+    private static float max(float a, float b, float c, float d) {
+        return Math.max(Math.max(a, b), Math.max(c, d));
+    }
+
+    private static int rootSize(int size) {
+        // smallest power of two spanning the grid's size - 1 intervals, at least 2 so leaves have a centre
+        int intervals = Math.max(2, size - 1);
+        return Integer.highestOneBit(intervals - 1) << 1;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2020 TerraForged
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.terraforged.app.mesh;
+
+import java.util.Arrays;
+
+/**
+ * A growable list of quads stored as flat xyz vertex positions with a colour per vertex
+ */
+public class QuadBuffer {
+
+    private float[] vertices;
+    private int[] colors;
+    private int vertexCount = 0;
+
+    public QuadBuffer() {
+        this(256);
+    }
+
+    public QuadBuffer(int quads) {
+        this.vertices = new float[quads * 4 * 3];
+        this.colors = new int[quads * 4];
+    }
+
+    public int getQuadCount() {
+        return vertexCount / 4;
+    }
+
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    public float getX(int vertex) {
+        return vertices[vertex * 3];
+    }
+
+    public float getY(int vertex) {
+        return vertices[vertex * 3 + 1];
+    }
+
+    public float getZ(int vertex) {
+        return vertices[vertex * 3 + 2];
+    }
+
+    public int getColor(int vertex) {
+        return colors[vertex];
+    }
+
+    public QuadBuffer vertex(float x, float y, float z, int color) {
+        if (vertexCount == colors.length) {
+            colors = Arrays.copyOf(colors, colors.length * 2);
+            vertices = Arrays.copyOf(vertices, vertices.length * 2);
+        }
+        int index = vertexCount * 3;
+        vertices[index] = x;
+        vertices[index + 1] = y;
+        vertices[index + 2] = z;
+        colors[vertexCount] = color;
+        vertexCount++;
+        return this;
+    }
+
+    public void clear() {
+        vertexCount = 0;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2020 TerraForged
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.terraforged.app.mesh;
+
+/**
+ * Builds a quad per grid cell of a smooth heightfield surface with a colour per vertex
+ */
+public class SurfaceMesher {
+
+    private final int size;
+    private final float cellWidth;
+    private final float cellDepth;
+    private final float[] heights;
+    private final int[] colors;
+
+    public SurfaceMesher(int size, float cellWidth, float cellDepth) {
+        this.size = size;
+        this.cellWidth = cellWidth;
+        this.cellDepth = cellDepth;
+        this.heights = new float[size * size];
+        this.colors = new int[size * size];
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void set(int x, int y, float height, int color) {
+        int index = y * size + x;
+        heights[index] = height;
+        colors[index] = color;
+    }
+
+    public QuadBuffer build() {
+        return build(new QuadBuffer((size - 1) * (size - 1)));
+    }
+
+    public QuadBuffer build(QuadBuffer buffer) {
+        buffer.clear();
+        for (int y = 0; y < size - 1; y++) {
+            for (int x = 0; x < size - 1; x++) {
+                vertex(buffer, x, y);
+                vertex(buffer, x + 1, y);
+                vertex(buffer, x + 1, y + 1);
+                vertex(buffer, x, y + 1);
+            }
+        }
+        return buffer;
+    }
+
+    private void vertex(QuadBuffer buffer, int x, int y) {
+        int index = y * size + x;
+        buffer.vertex(x * cellWidth, y * cellDepth, heights[index], colors[index]);
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2020 TerraForged
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.terraforged.app.mesh;
+
+import java.util.Arrays;
+
+/**
+ * Builds a face-culled, greedy-meshed set of quads for a square grid of columns.
+ *
+ * Columns extend from z=0 up to their height. Top and bottom faces are merged into the largest rectangles of equal
+ * height and colour, side faces are only emitted where a column rises above its neighbour (or the grid edge) and are
+ * merged into runs that share the same top, bottom and colour.
+ */
+public class VoxelMesher {
+
+    private final int size;
+    private final float cellWidth;
+    private final float cellDepth;
+    private final float[] heights;
+    private final int[] colors;
+    private final boolean[] done;
+
+    public VoxelMesher(int size, float cellWidth, float cellDepth) {
+        this.size = size;
+        this.cellWidth = cellWidth;
+        this.cellDepth = cellDepth;
+        this.heights = new float[size * size];
+        this.colors = new int[size * size];
+        this.done = new boolean[size * size];
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void set(int x, int y, float height, int color) {
+        int index = y * size + x;
+        heights[index] = Math.max(0, height);
+        colors[index] = color;
+    }
+
+    public QuadBuffer build() {
+        return build(new QuadBuffer(size * 4));
+    }
+
+    public QuadBuffer build(QuadBuffer buffer) {
+        buffer.clear();
+        caps(buffer, false);
+        caps(buffer, true);
+        sidesX(buffer, 1);
+        sidesX(buffer, -1);
+        sidesY(buffer, 1);
+        sidesY(buffer, -1);
+        return buffer;
+    }
+
+    private void caps(QuadBuffer buffer, boolean top) {
+        Arrays.fill(done, false);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                int index = y * size + x;
+                if (done[index]) {
+                    continue;
+                }
+
+                // grow along x then along y while every cell matches
+                int width = 1;
+                while (x + width < size && !done[index + width] && sameCap(index, index + width, top)) {
+                    width++;
+                }
+
+                int depth = 1;
+                grow:
+                while (y + depth < size) {
+                    int row = (y + depth) * size + x;
+                    for (int dx = 0; dx < width; dx++) {
+                        if (done[row + dx] || !sameCap(index, row + dx, top)) {
+                            break grow;
+                        }
+                    }
+                    depth++;
+                }
+
+                for (int dy = 0; dy < depth; dy++) {
+                    int row = (y + dy) * size + x;
+                    for (int dx = 0; dx < width; dx++) {
+                        done[row + dx] = true;
+                    }
+                }
+
+                float x0 = x * cellWidth;
+                float x1 = (x + width) * cellWidth;
+                float y0 = y * cellDepth;
+                float y1 = (y + depth) * cellDepth;
+                int color = colors[index];
+                if (top) {
+                    float z = heights[index];
+                    buffer.vertex(x0, y0, z, color);
+                    buffer.vertex(x1, y0, z, color);
+                    buffer.vertex(x1, y1, z, color);
+                    buffer.vertex(x0, y1, z, color);
+                } else {
+                    buffer.vertex(x1, y0, 0, color);
+                    buffer.vertex(x0, y0, 0, color);
+                    buffer.vertex(x0, y1, 0, color);
+                    buffer.vertex(x1, y1, 0, color);
+                }
+            }
+        }
+    }
+
+    // faces perpendicular to the x axis, merged into runs along y
+    private void sidesX(QuadBuffer buffer, int dir) {
+        for (int x = 0; x < size; x++) {
+            int y = 0;
+            while (y < size) {
+                int index = y * size + x;
+                float top = heights[index];
+                float bottom = neighbour(x + dir, y);
+                if (top <= bottom) {
+                    y++;
+                    continue;
+                }
+
+                int length = 1;
+                while (y + length < size) {
+                    int next = (y + length) * size + x;
+                    if (heights[next] != top || colors[next] != colors[index] || neighbour(x + dir, y + length) != bottom) {
+                        break;
+                    }
+                    length++;
+                }
+
+                int color = colors[index];
+                float px = (dir > 0 ? x + 1 : x) * cellWidth;
+                float y0 = y * cellDepth;
+                float y1 = (y + length) * cellDepth;
+                if (dir > 0) {
+                    buffer.vertex(px, y0, top, color);
+                    buffer.vertex(px, y0, bottom, color);
+                    buffer.vertex(px, y1, bottom, color);
+                    buffer.vertex(px, y1, top, color);
+                } else {
+                    buffer.vertex(px, y0, bottom, color);
+                    buffer.vertex(px, y0, top, color);
+                    buffer.vertex(px, y1, top, color);
+                    buffer.vertex(px, y1, bottom, color);
+                }
+
+                y += length;
+            }
+        }
+    }
+
+    // faces perpendicular to the y axis, merged into runs along x
+    private void sidesY(QuadBuffer buffer, int dir) {
+        for (int y = 0; y < size; y++) {
+            int x = 0;
+            while (x < size) {
+                int index = y * size + x;
+                float top = heights[index];
+                float bottom = neighbour(x, y + dir);
+                if (top <= bottom) {
+                    x++;
+                    continue;
+                }
+
+                int length = 1;
+                while (x + length < size) {
+                    int next = index + length;
+                    if (heights[next] != top || colors[next] != colors[index] || neighbour(x + length, y + dir) != bottom) {
+                        break;
+                    }
+                    length++;
+                }
+
+                int color = colors[index];
+                float py = (dir > 0 ? y + 1 : y) * cellDepth;
+                float x0 = x * cellWidth;
+                float x1 = (x + length) * cellWidth;
+                if (dir > 0) {
+                    buffer.vertex(x0, py, top, color);
+                    buffer.vertex(x1, py, top, color);
+                    buffer.vertex(x1, py, bottom, color);
+                    buffer.vertex(x0, py, bottom, color);
+                } else {
+                    buffer.vertex(x0, py, bottom, color);
+                    buffer.vertex(x1, py, bottom, color);
+                    buffer.vertex(x1, py, top, color);
+                    buffer.vertex(x0, py, top, color);
+                }
+
+                x += length;
+            }
+        }
+    }
+
+    private boolean sameCap(int a, int b, boolean top) {
+        return colors[a] == colors[b] && (!top || heights[a] == heights[b]);
+    }
+
+    private float neighbour(int x, int y) {
+        if (x < 0 || y < 0 || x >= size || y >= size) {
+            return 0;
+        }
+        return heights[y * size + x];
+    }
+}
@@ -26,50 +26,79 @@
 package com.terraforged.app.renderer;
 
 import com.terraforged.app.Applet;
+import com.terraforged.app.View;
+import com.terraforged.app.mesh.LodMesher;
+import com.terraforged.app.mesh.QuadBuffer;
+import com.terraforged.app.mesh.SurfaceMesher;
 import com.terraforged.core.cell.Cell;
 import com.terraforged.core.world.heightmap.Levels;
 import com.terraforged.core.world.terrain.Terrain;
-import processing.core.PApplet;
+import processing.core.PShape;
 
 public class MeshRenderer extends Renderer {
 
+    // zoom levels at or beyond which the surface is tessellated by screen-space error rather than per cell
+    private static final float LOD_ZOOM = 4F;
+    private static final float LOD_TOLERANCE = 1F;
+
     public MeshRenderer(Applet visualizer) {
         super(visualizer);
     }
 
+    private PShape shape = null;
+
     @Override
     public void render(float zoom) {
-        float seaLevel = new Levels(applet.getCache().getSettings().generator).water;
-        int worldHeight = applet.getCache().getSettings().generator.world.worldHeight;
-        int waterLevel = (int) (seaLevel * worldHeight);
-        int seabedLevel = (int) ((seaLevel - 0.04) * worldHeight);
-        int resolution = applet.getCache().getRegion().getBlockSize().size;
+        View view = applet.getCache().getView();
+        int resolution = view.getSize();
 
         float w = applet.width / (float) (resolution - 1);
         float h = applet.width / (float) (resolution - 1);
 
+        if (isDirty(view, zoom) || shape == null) {
+            shape = toShape(buildMesh(view, resolution, w, h, zoom));
+        }
+
         applet.noStroke();
         applet.pushMatrix();
         applet.translate(-applet.width / 2F, -applet.width / 2F);
+        applet.shape(shape);
+        applet.popMatrix();
+    }
 
-        for (int dy = 0; dy < resolution - 1; dy++) {
-            applet.beginShape(PApplet.TRIANGLE_STRIP);
+    private QuadBuffer buildMesh(View view, int resolution, float w, float h, float zoom) {
+        float seaLevel = new Levels(applet.getCache().getSettings().generator).water;
+        int worldHeight = applet.getCache().getSettings().generator.world.worldHeight;
+        int waterLevel = (int) (seaLevel * worldHeight);
+
+        if (zoom < LOD_ZOOM) {
+            SurfaceMesher mesher = new SurfaceMesher(resolution, w, h);
+            for (int dz = 0; dz < resolution; dz++) {
+                for (int dx = 0; dx < resolution; dx++) {
+                    float y = getHeight(view.getCell(dx, dz), worldHeight, waterLevel, zoom);
+                    mesher.set(dx, dz, y, getFill());
+                }
+            }
+            return mesher.build();
+        }
+
+        LodMesher mesher = new LodMesher(resolution, w, h).tolerance(LOD_TOLERANCE);
+        for (int dz = 0; dz < resolution; dz++) {
             for (int dx = 0; dx < resolution; dx++) {
-                draw(dx, dy, w, h, zoom, worldHeight, waterLevel, seabedLevel);
-                draw(dx, dy + 1, w, h, zoom, worldHeight, waterLevel, resolution / 2);
+                float y = getHeight(view.getCell(dx, dz), worldHeight, waterLevel, zoom);
+                mesher.set(dx, dz, y, getFill());
             }
-            applet.endShape();
         }
 
-        applet.popMatrix();
+        // approximates the default camera looking down on the centre of the view
+        float centre = applet.width / 2F;
+        float focalLength = applet.height * 0.866F;
+        return mesher.build(centre, centre, focalLength, focalLength);
     }
 
-    private void draw(int dx, int dz, float w, float h, float zoom, int worldHeight, int waterLevel, int center) {
-        Cell<Terrain> cell = applet.getCache().getRegion().getCell(dx, dz);
+    private float getHeight(Cell<Terrain> cell, int worldHeight, int waterLevel, float zoom) {
         float height = (cell.value * worldHeight);
-        float x = dx * w;
-        float z = dz * h;
         float y = (int) getSurface(cell, height, waterLevel, 1);
-        applet.vertex(x, z, y / (zoom * 0.2F));
+        return y / (zoom * 0.2F);
     }
 }
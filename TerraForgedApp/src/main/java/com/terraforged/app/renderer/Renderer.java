@@ -26,8 +26,12 @@
 package com.terraforged.app.renderer;
 
 import com.terraforged.app.Applet;
+import com.terraforged.app.View;
+import com.terraforged.app.mesh.QuadBuffer;
 import com.terraforged.core.cell.Cell;
 import com.terraforged.core.world.terrain.Terrain;
+import processing.core.PApplet;
+import processing.core.PShape;
 
 import java.awt.*;
 
@@ -35,10 +39,43 @@ public abstract class Renderer {
 
     protected final Applet applet;
 
+    private View lastView = null;
+    private float lastZoom = 0F;
+    private int lastColorMode = -1;
+
     protected Renderer(Applet visualizer) {
         this.applet = visualizer;
     }
 
+    // true if the retained mesh no longer matches what would be drawn
+    protected boolean isDirty(View view, float zoom) {
+        int colorMode = applet.controller.getColorMode();
+        if (view != lastView || zoom != lastZoom || colorMode != lastColorMode) {
+            lastView = view;
+            lastZoom = zoom;
+            lastColorMode = colorMode;
+            return true;
+        }
+        return false;
+    }
+
+    // the colour most recently set by applet.fill(..), ie by getSurface(..)
+    protected int getFill() {
+        return applet.g.fillColor;
+    }
+
+    protected PShape toShape(QuadBuffer buffer) {
+        PShape shape = applet.createShape();
+        shape.beginShape(PApplet.QUADS);
+        shape.noStroke();
+        for (int i = 0; i < buffer.getVertexCount(); i++) {
+            shape.fill(buffer.getColor(i));
+            shape.vertex(buffer.getX(i), buffer.getY(i), buffer.getZ(i));
+        }
+        shape.endShape();
+        return shape;
+    }
+
     public float getSurface(Cell<Terrain> cell, float height, int waterLevel, float el) {
         if (cell.tag == applet.getCache().getTerrain().volcanoPipe) {
             applet.fill(2, 80, 64);
@@ -26,10 +26,14 @@
 package com.terraforged.app.renderer;
 
 import com.terraforged.app.Applet;
+import com.terraforged.app.View;
+import com.terraforged.app.mesh.QuadBuffer;
+import com.terraforged.app.mesh.VoxelMesher;
 import com.terraforged.core.cell.Cell;
 import com.terraforged.core.world.heightmap.Levels;
 import com.terraforged.core.world.terrain.Terrain;
 import processing.core.PApplet;
+import processing.core.PShape;
 
 public class VoxelRenderer extends Renderer {
 
@@ -37,41 +41,41 @@ public class VoxelRenderer extends Renderer {
         super(visualizer);
     }
 
+    private PShape shape = null;
+
     @Override
     public void render(float zoom) {
-        Levels levels = new Levels(applet.getCache().getSettings().generator);
+        View view = applet.getCache().getView();
         int worldHeight = applet.getCache().getSettings().generator.world.worldHeight;
-        int waterLevel = levels.waterY;
-        int resolution = applet.getCache().getRegion().getBlockSize().size;
-        int center = resolution / 2;
+        int resolution = view.getSize();
 
         float w = applet.width / (float) resolution;
         float h = applet.width / (float) resolution;
         float el = w / zoom;
 
+        if (isDirty(view, zoom) || shape == null) {
+            shape = toShape(buildMesh(view, resolution, worldHeight, w, h, el));
+        }
+
         applet.pushMatrix();
         applet.translate(-applet.width / 2F, -applet.width / 2F);
+        applet.shape(shape);
+        drawRulers(16, worldHeight, resolution, h, el);
+        applet.popMatrix();
+    }
 
-        int difX = Math.max(0, applet.getCache().getRegion().getBlockSize().size - resolution);
-        int difY = Math.max(0, applet.getCache().getRegion().getBlockSize().size - resolution);
-        int offsetX = difX / 2;
-        int offsetZ = difY / 2;
+    private QuadBuffer buildMesh(View view, int resolution, int worldHeight, float w, float h, float el) {
+        Levels levels = new Levels(applet.getCache().getSettings().generator);
+        int waterLevel = levels.waterY;
+        int center = resolution / 2;
 
+        VoxelMesher mesher = new VoxelMesher(resolution, w, h);
         for (int dy = 0; dy < resolution; dy++) {
             for (int dx = 0; dx < resolution; dx++) {
-                Cell<Terrain> cell = applet.getCache().getRegion().getCell(dx + offsetX, dy + offsetZ);
+                Cell<Terrain> cell = view.getCell(dx, dy);
 
                 float cellHeight = cell.value * worldHeight;
                 int height = Math.min(worldHeight, Math.max(0, (int) cellHeight));
-
-                if (height < 0) {
-                    continue;
-                }
-
-                float x0 = dx * w;
-                float x1 = (dx + 1) * w;
-                float z0 = dy * h;
-                float z1 = (dy + 1) * h;
                 float y = getSurface(cell, height, waterLevel, el);
 
                 if ((dx == center && (dy == center || dy - 1 == center || dy + 1 == center))
@@ -79,13 +83,10 @@ public class VoxelRenderer extends Renderer {
                     applet.fill(100F, 100F, 100F);
                 }
 
-                drawColumn(x0, z0, 0, x1, z1, y);
+                mesher.set(dx, dy, y, getFill());
             }
         }
-
-        drawRulers(16, worldHeight, resolution, h, el);
-
-        applet.popMatrix();
+        return mesher.build();
     }
 
     private void drawRulers(int step, int max, int resolution, float unit, float height) {
@@ -0,0 +1,93 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2020 TerraForged
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.terraforged.core.world.heightmap;
+
+import com.terraforged.core.cell.Cell;
+import com.terraforged.core.settings.Settings;
+import com.terraforged.core.world.GeneratorContext;
+import com.terraforged.core.world.WorldGeneratorFactory;
+import com.terraforged.core.world.terrain.Terrain;
+import com.terraforged.core.world.terrain.Terrains;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Headless comparison of the WorldLookup's allocating, scratch and bulk variants. Prints the bytes allocated and the
+ * average time per lookup for each.
+ *
+ * Requires a JVM that reports per-thread allocation (ie HotSpot's com.sun.management.ThreadMXBean).
+ */
+public class WorldLookupBenchmark {
+
+    private static final int SIZE = 128;
+    private static final int WARMUP = 5;
+    private static final int RUNS = 20;
+
+    private static float sink;
+
+    public static void main(String[] args) {
+        Settings settings = new Settings();
+        GeneratorContext context = new GeneratorContext(Terrains.create(settings), settings);
+        WorldLookup lookup = new WorldLookup(new WorldGeneratorFactory(context), context);
+        Cell.Visitor<Terrain> visitor = (cell, dx, dz) -> sink += cell.value;
+
+        System.out.printf("%10s %14s %14s%n", "variant", "bytes/lookup", "ns/lookup");
+        run("getCell", () -> {
+            for (int z = 0; z < SIZE; z++) {
+                for (int x = 0; x < SIZE; x++) {
+                    sink += lookup.getCell(x, z).value;
+                }
+            }
+        });
+        run("lookup", () -> {
+            for (int z = 0; z < SIZE; z++) {
+                for (int x = 0; x < SIZE; x++) {
+                    sink += lookup.lookup(x, z).value;
+                }
+            }
+        });
+        run("visit", () -> lookup.visit(0, 0, SIZE, SIZE, visitor));
+    }
+
+    private static void run(String name, Runnable task) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        for (int i = 0; i < WARMUP; i++) {
+            task.run();
+        }
+
+        long bytes = threads.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            task.run();
+        }
+        long nanos = System.nanoTime() - start;
+        bytes = threads.getThreadAllocatedBytes(thread) - bytes;
+
+        long lookups = (long) RUNS * SIZE * SIZE;
+        System.out.printf("%10s %14.2f %14.1f%n", name, bytes / (double) lookups, nanos / (double) lookups);
+    }
+}
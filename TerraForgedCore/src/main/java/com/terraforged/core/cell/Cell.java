@@ -90,6 +90,14 @@ public class Cell<T extends Tag> {
         tag = other.tag;
     }
 
+    /**
+     * Restores the default values so that the cell can be re-populated from scratch
+     */
+    @SuppressWarnings("unchecked")
+    public void reset() {
+        copy(EMPTY);
+    }
+
     public float continentMask(float min, float max) {
         return NoiseUtil.map(continentEdge, min, max, max - min);
     }
@@ -75,12 +75,10 @@ public class Erosion implements Filter {
     private int maxDropletLifetime = 30;
     private float initialWaterVolume = 1;
     private float initialSpeed = 1;
-    private final TerrainPos gradient = new TerrainPos();
-    private int[][] erosionBrushIndices = new int[0][];
-    private float[][] erosionBrushWeights = new float[0][];
 
     private final Modifier modifier;
-    private final Random random = new Random();
+    // immutable once built, so can be published to other threads without locking
+    private volatile Brushes brushes = new Brushes(0, new int[0][], new float[0][]);
 
     public Erosion(Settings settings, Levels levels) {
         erodeSpeed = settings.filters.erosion.erosionRate;
@@ -90,29 +88,67 @@ public class Erosion implements Filter {
 
     @Override
     public void apply(Filterable<?> map, int seedX, int seedZ, int iterations) {
-        if (erosionBrushIndices.length != map.getSize().total) {
-            init(map.getSize().total, erosionRadius);
+        Size size = map.getSize();
+        Cell<?>[] cells = map.getBacking();
+        Droplets droplets = new Droplets(cells);
+        Random random = new Random(NoiseUtil.seed(seedX, seedZ));
+        Brushes brushes = getBrushes(size.total);
+        TerrainPos gradient = new TerrainPos();
+        while (iterations-- > 0) {
+            int posX = nextCoord(size, random);
+            int posZ = nextCoord(size, random);
+            apply(droplets, posX, posZ, size.total, brushes, gradient);
         }
 
-        applyMain(map, seedX, seedZ, iterations, random);
-
-//        applyNeighbours(map, seedX, seedZ, iterations, random);
+        for (int i = 0; i < cells.length; i++) {
+            Cell<?> cell = cells[i];
+            cell.value = droplets.heights[i];
+            cell.erosion += droplets.erosion[i];
+            cell.sediment += droplets.sediment[i];
+        }
     }
 
-    private int nextCoord(Size size, Random random) {
-        return random.nextInt(size.total - 1);
+    /**
+     * Erodes the map with droplets that start inside its interior (ie excluding the border) and returns the changes
+     * they make, leaving the map itself untouched. The droplets are seeded from the tile coordinates so that a tile
+     * erodes the same way whichever region computes it, and may flow out into the border.
+     */
+    public ErosionTile erode(Filterable<?> map, int seedX, int seedZ, int iterations) {
+        Size size = map.getSize();
+        Cell<?>[] cells = map.getBacking();
+        Droplets droplets = new Droplets(cells);
+        Random random = new Random(NoiseUtil.seed(seedX, seedZ));
+        Brushes brushes = getBrushes(size.total);
+        TerrainPos gradient = new TerrainPos();
+        // droplets must start at least one cell inside the far edge of the map
+        int bound = Math.min(size.size, size.total - 1 - size.border);
+        while (iterations-- > 0) {
+            int posX = size.border + random.nextInt(bound);
+            int posZ = size.border + random.nextInt(bound);
+            apply(droplets, posX, posZ, size.total, brushes, gradient);
+        }
+
+        for (int i = 0; i < cells.length; i++) {
+            droplets.heights[i] -= cells[i].value;
+        }
+        return new ErosionTile(size.total, droplets.heights, droplets.erosion, droplets.sediment);
     }
 
-    private void applyMain(Filterable<?> map, int seedX, int seedZ, int iterations, Random random) {
-        random.setSeed(NoiseUtil.seed(seedX, seedZ));
-        while (iterations-- > 0) {
-            int posX = nextCoord(map.getSize(), random);
-            int posZ = nextCoord(map.getSize(), random);
-            apply(map.getBacking(), posX, posZ, map.getSize().total);
+    private Brushes getBrushes(int size) {
+        Brushes brushes = this.brushes;
+        if (brushes.size != size) {
+            brushes = init(size, erosionRadius);
+            this.brushes = brushes;
         }
+        return brushes;
+    }
+
+    private int nextCoord(Size size, Random random) {
+        return random.nextInt(size.total - 1);
     }
 
-    private void apply(Cell<?>[] cells, float posX, float posY, int size) {
+    private void apply(Droplets map, float posX, float posY, int size, Brushes brushes, TerrainPos gradient) {
+        float[] heights = map.heights;
         float dirX = 0;
         float dirY = 0;
         float speed = initialSpeed;
@@ -128,7 +164,7 @@ public class Erosion implements Filter {
             float cellOffsetY = posY - nodeY;
 
             // Calculate droplet's height and direction of flow with bilinear interpolation of surrounding heights
-            gradient.update(cells, size, posX, posY);
+            gradient.update(heights, size, posX, posY);
 
             // Update the droplet's direction and position (move position 1 unit regardless of speed)
             dirX = (dirX * inertia - gradient.gradientX * (1 - inertia));
@@ -155,7 +191,7 @@ public class Erosion implements Filter {
 
             // Find the droplet's new height and calculate the deltaHeight
             float oldHeight = gradient.height;
-            float newHeight = gradient.update(cells, size, posX, posY).height;
+            float newHeight = gradient.update(heights, size, posX, posY).height;
             float deltaHeight = newHeight - oldHeight;
 
             // Calculate the droplet's sediment capacity (higher when moving fast down a slope and contains lots of water)
@@ -169,23 +205,24 @@ public class Erosion implements Filter {
 
                 // Add the sediment to the four nodes of the current cell using bilinear interpolation
                 // Deposition is not distributed over a radius (like erosion) so that it can fill small pits
-                deposit(cells[dropletIndex], amountToDeposit * (1 - cellOffsetX) * (1 - cellOffsetY));
-                deposit(cells[dropletIndex + 1], amountToDeposit * cellOffsetX * (1 - cellOffsetY));
-                deposit(cells[dropletIndex + size], amountToDeposit * (1 - cellOffsetX) * cellOffsetY);
-                deposit(cells[dropletIndex + size + 1], amountToDeposit * cellOffsetX * cellOffsetY);
+                deposit(map, dropletIndex, amountToDeposit * (1 - cellOffsetX) * (1 - cellOffsetY));
+                deposit(map, dropletIndex + 1, amountToDeposit * cellOffsetX * (1 - cellOffsetY));
+                deposit(map, dropletIndex + size, amountToDeposit * (1 - cellOffsetX) * cellOffsetY);
+                deposit(map, dropletIndex + size + 1, amountToDeposit * cellOffsetX * cellOffsetY);
             } else {
                 // Erode a fraction of the droplet's current carry capacity.
                 // Clamp the erosion to the change in height so that it doesn't dig a hole in the terrain behind the droplet
                 float amountToErode = Math.min((sedimentCapacity - sediment) * erodeSpeed, -deltaHeight);
 
                 // Use erosion brush to erode from all nodes inside the droplet's erosion radius
-                for (int brushPointIndex = 0; brushPointIndex < erosionBrushIndices[dropletIndex].length; brushPointIndex++) {
-                    int nodeIndex = erosionBrushIndices[dropletIndex][brushPointIndex];
-                    Cell<?> cell = cells[nodeIndex];
-                    float brushWeight = erosionBrushWeights[dropletIndex][brushPointIndex];
+                int[] brushIndices = brushes.indices[dropletIndex];
+                float[] brushWeights = brushes.weights[dropletIndex];
+                for (int brushPointIndex = 0; brushPointIndex < brushIndices.length; brushPointIndex++) {
+                    int nodeIndex = brushIndices[brushPointIndex];
+                    float brushWeight = brushWeights[brushPointIndex];
                     float weighedErodeAmount = amountToErode * brushWeight;
-                    float deltaSediment = Math.min(cell.value, weighedErodeAmount);//cell.value < weighedErodeAmount) ? cell.value : weighedErodeAmount;
-                    erode(cell, deltaSediment);
+                    float deltaSediment = Math.min(heights[nodeIndex], weighedErodeAmount);//cell.value < weighedErodeAmount) ? cell.value : weighedErodeAmount;
+                    erode(map, nodeIndex, deltaSediment);
                     sediment += deltaSediment;
                 }
             }
@@ -200,9 +237,9 @@ public class Erosion implements Filter {
         }
     }
 
-    private void init(int size, int radius) {
-        erosionBrushIndices = new int[size * size][];
-        erosionBrushWeights = new float[size * size][];
+    private static Brushes init(int size, int radius) {
+        int[][] erosionBrushIndices = new int[size * size][];
+        float[][] erosionBrushWeights = new float[size * size][];
 
         int[] xOffsets = new int[radius * radius * 4];
         int[] yOffsets = new int[radius * radius * 4];
@@ -246,18 +283,50 @@ public class Erosion implements Filter {
                 erosionBrushWeights[i][j] = weights[j] / weightSum;
             }
         }
+
+        return new Brushes(size, erosionBrushIndices, erosionBrushWeights);
+    }
+
+    private void deposit(Droplets map, int index, float amount) {
+        float change = amount * modifier.getModifier(map.heights[index]);
+        map.heights[index] += change;
+        map.sediment[index] += change;
     }
 
-    private void deposit(Cell<?> cell, float amount) {
-        float change = modifier.modify(cell, amount);
-        cell.value += change;
-        cell.sediment += change;
+    private void erode(Droplets map, int index, float amount) {
+        float change = amount * modifier.getModifier(map.heights[index]);
+        map.heights[index] -= change;
+        map.erosion[index] -= change;
     }
 
-    private void erode(Cell<?> cell, float amount) {
-        float change = modifier.modify(cell, amount);
-        cell.value -= change;
-        cell.erosion -= change;
+    // the heights being eroded plus the erosion & sediment accumulated at each point
+    private static class Droplets {
+
+        private final float[] heights;
+        private final float[] erosion;
+        private final float[] sediment;
+
+        private Droplets(Cell<?>[] cells) {
+            this.heights = new float[cells.length];
+            this.erosion = new float[cells.length];
+            this.sediment = new float[cells.length];
+            for (int i = 0; i < cells.length; i++) {
+                heights[i] = cells[i].value;
+            }
+        }
+    }
+
+    private static class Brushes {
+
+        private final int size;
+        private final int[][] indices;
+        private final float[][] weights;
+
+        private Brushes(int size, int[][] indices, float[][] weights) {
+            this.size = size;
+            this.indices = indices;
+            this.weights = weights;
+        }
     }
 
     private static class TerrainPos {
@@ -265,7 +334,7 @@ public class Erosion implements Filter {
         private float gradientX;
         private float gradientY;
 
-        private TerrainPos update(Cell<?>[] nodes, int mapSize, float posX, float posY) {
+        private TerrainPos update(float[] nodes, int mapSize, float posX, float posY) {
             int coordX = (int) posX;
             int coordY = (int) posY;
 
@@ -275,10 +344,10 @@ public class Erosion implements Filter {
 
             // Calculate heights of the four nodes of the droplet's cell
             int nodeIndexNW = coordY * mapSize + coordX;
-            float heightNW = nodes[nodeIndexNW].value;
-            float heightNE = nodes[nodeIndexNW + 1].value;
-            float heightSW = nodes[nodeIndexNW + mapSize].value;
-            float heightSE = nodes[nodeIndexNW + mapSize + 1].value;
+            float heightNW = nodes[nodeIndexNW];
+            float heightNE = nodes[nodeIndexNW + 1];
+            float heightSW = nodes[nodeIndexNW + mapSize];
+            float heightSE = nodes[nodeIndexNW + mapSize + 1];
 
             // Calculate droplet's direction of flow with bilinear interpolation of height difference along the edges
             this.gradientX = (heightNE - heightNW) * (1 - y) + (heightSE - heightSW) * y;
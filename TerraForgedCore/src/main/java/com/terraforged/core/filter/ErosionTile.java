@@ -0,0 +1,70 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2020 TerraForged
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.terraforged.core.filter;
+
+import com.terraforged.core.cell.Cell;
+
+/**
+ * The changes made by one tile's erosion droplets, covering the tile and the border around it
+ */
+public class ErosionTile {
+
+    private final int size;
+    private final float[] value;
+    private final float[] erosion;
+    private final float[] sediment;
+
+    public ErosionTile(int size, float[] value, float[] erosion, float[] sediment) {
+        this.size = size;
+        this.value = value;
+        this.erosion = erosion;
+        this.sediment = sediment;
+    }
+
+    /**
+     * Adds the tile's changes to the cells of the map that it overlaps
+     *
+     * @param offsetX the x position of the tile's first cell within the map
+     * @param offsetZ the z position of the tile's first cell within the map
+     */
+    public void apply(Filterable<?> map, int offsetX, int offsetZ) {
+        int total = map.getSize().total;
+        int minX = Math.max(0, offsetX);
+        int minZ = Math.max(0, offsetZ);
+        int maxX = Math.min(total, offsetX + size);
+        int maxZ = Math.min(total, offsetZ + size);
+        for (int z = minZ; z < maxZ; z++) {
+            int row = (z - offsetZ) * size - offsetX;
+            for (int x = minX; x < maxX; x++) {
+                int index = row + x;
+                Cell<?> cell = map.getCellRaw(x, z);
+                cell.value += value[index];
+                cell.erosion += erosion[index];
+                cell.sediment += sediment[index];
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2020 TerraForged
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.terraforged.core.region;
+
+import com.terraforged.core.cell.Cell;
+import com.terraforged.core.world.heightmap.Heightmap;
+import com.terraforged.core.world.terrain.Terrain;
+import me.dags.noise.util.NoiseUtil;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the unfiltered heightmap for chunks that fall within more than one region (a region's edge chunks and the
+ * border around it) so that each is evaluated once and copied into every region that needs it.
+ *
+ * An entry is released once all of the regions that overlap its chunk have taken a copy. Entries whose neighbours
+ * are never generated expire after a while and are simply recomputed if needed later.
+ */
+public class ChunkStore {
+
+    private static final long LIFESPAN = TimeUnit.SECONDS.toMillis(120);
+    private static final long INTERVAL = TimeUnit.SECONDS.toMillis(30);
+
+    private final int size;
+    private final int total;
+    private final Map<Long, Entry> chunks = new ConcurrentHashMap<>();
+
+    private volatile long lastUpdate = System.currentTimeMillis();
+
+    public ChunkStore(int factor, int border) {
+        this.size = 1 << factor;
+        this.total = size + 2 * border;
+    }
+
+    /**
+     * The number of regions whose bordered area includes the given chunk
+     *
+     * @param offset the region's chunk offset (see Region.getOffsetChunks)
+     */
+    public int getUses(int chunkX, int chunkZ, int offset) {
+        return getUses(chunkX + offset) * getUses(chunkZ + offset);
+    }
+
+    /**
+     * Returns the unfiltered cells of the chunk, evaluating them on first use. The returned cells must not be modified.
+     */
+    public Cell<Terrain>[] acquire(int chunkX, int chunkZ, int uses, Heightmap heightmap) {
+        long id = NoiseUtil.seed(chunkX, chunkZ);
+        Entry entry = chunks.computeIfAbsent(id, k -> new Entry(uses));
+        Cell<Terrain>[] cells = entry.get(chunkX, chunkZ, heightmap);
+        if (entry.release()) {
+            chunks.remove(id, entry);
+        }
+        update();
+        return cells;
+    }
+
+    public int size() {
+        return chunks.size();
+    }
+
+    private int getUses(int chunk) {
+        return Math.floorDiv(chunk, size) - Math.floorDiv(chunk - total, size);
+    }
+
+    private void update() {
+        long time = System.currentTimeMillis();
+        if (time - lastUpdate < INTERVAL) {
+            return;
+        }
+        lastUpdate = time;
+        chunks.values().removeIf(entry -> time - entry.time >= LIFESPAN);
+    }
+
+    private static class Entry {
+
+        private final long time = System.currentTimeMillis();
+        private int uses;
+        private Cell<Terrain>[] cells;
+
+        private Entry(int uses) {
+            this.uses = uses;
+        }
+
+        @SuppressWarnings("unchecked")
+        private synchronized Cell<Terrain>[] get(int chunkX, int chunkZ, Heightmap heightmap) {
+            if (cells == null) {
+                int blockX = Size.chunkToBlock(chunkX);
+                int blockZ = Size.chunkToBlock(chunkZ);
+                Cell<Terrain>[] cells = new Cell[256];
+                for (int dz = 0; dz < 16; dz++) {
+                    for (int dx = 0; dx < 16; dx++) {
+                        Cell<Terrain> cell = new Cell<>();
+                        heightmap.apply(cell, blockX + dx, blockZ + dz);
+                        cells[(dz << 4) + dx] = cell;
+                    }
+                }
+                this.cells = cells;
+            }
+            return cells;
+        }
+
+        // returns true once every region that overlaps the chunk has taken it
+        private synchronized boolean release() {
+            return --uses <= 0;
+        }
+    }
+}
@@ -29,6 +29,7 @@ import com.terraforged.core.cell.Cell;
 import com.terraforged.core.cell.Extent;
 import com.terraforged.core.world.decorator.Decorator;
 import com.terraforged.core.filter.Filterable;
+import com.terraforged.core.region.chunk.ChunkCopyTask;
 import com.terraforged.core.region.chunk.ChunkGenTask;
 import com.terraforged.core.region.chunk.ChunkReader;
 import com.terraforged.core.region.chunk.ChunkWriter;
@@ -148,6 +149,25 @@ public class Region implements Extent {
         }
     }
 
+    /**
+     * Generates the region, taking chunks that overlap neighbouring regions from the shared store so that their
+     * heightmap is only evaluated once
+     */
+    public void generate(Heightmap heightmap, ChunkStore store, Batcher batcher) {
+        for (int cz = 0; cz < chunkSize.total; cz++) {
+            for (int cx = 0; cx < chunkSize.total; cx++) {
+                int index = chunkSize.indexOf(cx, cz);
+                GenChunk chunk = computeChunk(index, cx, cz);
+                int uses = store.getUses(chunk.getChunkX(), chunk.getChunkZ(), getOffsetChunks());
+                if (uses > 1) {
+                    batcher.submit(new ChunkCopyTask(chunk, heightmap, store, uses));
+                } else {
+                    batcher.submit(new ChunkGenTask(chunk, heightmap));
+                }
+            }
+        }
+    }
+
     public void generateZoom(Heightmap heightmap, float offsetX, float offsetZ, float zoom, Batcher batcher) {
         float translateX = offsetX - ((blockSize.size * zoom) / 2F);
         float translateZ = offsetZ - ((blockSize.size * zoom) / 2F);
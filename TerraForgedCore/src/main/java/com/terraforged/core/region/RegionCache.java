@@ -32,6 +32,7 @@ import me.dags.noise.util.NoiseUtil;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 public class RegionCache implements RegionExtent {
 
@@ -39,6 +40,9 @@ public class RegionCache implements RegionExtent {
     private final RegionGenerator renderer;
     private final Cache<Long, CompletableFuture<Region>> cache;
     private final ThreadLocal<Region> cachedRegion = new ThreadLocal<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
 
     public RegionCache(boolean queueNeighbours, RegionGenerator renderer) {
         this.renderer = renderer;
@@ -55,13 +59,53 @@ public class RegionCache implements RegionExtent {
     public CompletableFuture<Region> getRegionAsync(int regionX, int regionZ) {
         long id = NoiseUtil.seed(regionX, regionZ);
         CompletableFuture<Region> future = cache.get(id);
-        if (future == null) {
+        if (future == null || future.isCancelled()) {
             future = renderer.getRegionAsync(regionX, regionZ);
             cache.put(id, future);
         }
         return future;
     }
 
+    /**
+     * Queues the region on the prefetch lane if it isn't already cached or queued
+     *
+     * @return true if the region was queued
+     */
+    public boolean prefetch(int regionX, int regionZ) {
+        long id = NoiseUtil.seed(regionX, regionZ);
+        CompletableFuture<Region> future = cache.get(id);
+        if (future == null || future.isCancelled()) {
+            cache.put(id, renderer.prefetch(regionX, regionZ));
+            return true;
+        }
+        return false;
+    }
+
+    public int getPrefetchBacklog() {
+        return renderer.getPrefetchBacklog();
+    }
+
+    /**
+     * Region requests that found the region already generated
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Region requests that found the region queued or generating and had to wait for it
+     */
+    public long getWaits() {
+        return waits.sum();
+    }
+
+    /**
+     * Region requests that had to generate the region from scratch
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
     @Override
     public ChunkReader getChunk(int chunkX, int chunkZ) {
         int regionX = renderer.chunkToRegion(chunkX);
@@ -81,10 +125,20 @@ public class RegionCache implements RegionExtent {
         CompletableFuture<Region> futureRegion = cache.get(id);
 
         if (futureRegion == null) {
+            misses.increment();
             cached = renderer.generateRegion(regionX, regionZ);
             cache.put(id, CompletableFuture.completedFuture(cached));
         } else {
-            cached = futureRegion.join();
+            if (futureRegion.isDone() && !futureRegion.isCancelled()) {
+                hits.increment();
+            } else {
+                waits.increment();
+            }
+            cached = RegionQueue.join(futureRegion);
+            if (futureRegion.isCancelled()) {
+                // the queued task was dropped before we claimed it
+                cache.put(id, CompletableFuture.completedFuture(cached));
+            }
         }
 
         if (queuing) {
@@ -102,7 +156,7 @@ public class RegionCache implements RegionExtent {
                 if (x == 0 && z == 0) {
                     continue;
                 }
-                getRegionAsync(regionX + x, regionZ + z);
+                prefetch(regionX + x, regionZ + z);
             }
         }
     }
@@ -0,0 +1,84 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2020 TerraForged
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.terraforged.core.region;
+
+/**
+ * A thread-safe snapshot of the chunk positions that region work should be prioritised around (ie player positions)
+ *
+ * Until the first update there are no points of interest, in which case every region is considered in range.
+ */
+public class RegionFocus {
+
+    private volatile Snapshot snapshot = new Snapshot(new int[0], new int[0], Integer.MAX_VALUE);
+
+    /**
+     * @param chunkX       the chunk x coordinates of each point of interest
+     * @param chunkZ       the chunk z coordinates of each point of interest
+     * @param viewDistance the view distance in chunks
+     */
+    public void update(int[] chunkX, int[] chunkZ, int viewDistance) {
+        snapshot = new Snapshot(chunkX, chunkZ, viewDistance);
+    }
+
+    /**
+     * The squared chunk distance to the nearest point of interest
+     */
+    public long getDistance2(int chunkX, int chunkZ) {
+        Snapshot snapshot = this.snapshot;
+        if (snapshot.chunkX.length == 0) {
+            return 0;
+        }
+
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < snapshot.chunkX.length; i++) {
+            long dx = chunkX - snapshot.chunkX[i];
+            long dz = chunkZ - snapshot.chunkZ[i];
+            min = Math.min(min, dx * dx + dz * dz);
+        }
+        return min;
+    }
+
+    /**
+     * True if the chunk is further than the view distance plus the margin from every point of interest
+     */
+    public boolean isOutOfRange(long distance2, int margin) {
+        long range = (long) snapshot.viewDistance + margin;
+        return distance2 > range * range;
+    }
+
+    private static class Snapshot {
+
+        private final int[] chunkX;
+        private final int[] chunkZ;
+        private final int viewDistance;
+
+        private Snapshot(int[] chunkX, int[] chunkZ, int viewDistance) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+            this.viewDistance = viewDistance;
+        }
+    }
+}
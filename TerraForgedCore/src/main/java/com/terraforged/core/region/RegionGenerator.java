@@ -25,15 +25,18 @@
 
 package com.terraforged.core.region;
 
+import com.terraforged.core.filter.ErosionTile;
 import com.terraforged.core.region.legacy.LegacyRegion;
-import com.terraforged.core.util.concurrent.ObjectPool;
 import com.terraforged.core.util.concurrent.ThreadPool;
+import com.terraforged.core.util.concurrent.WorldExecutors;
 import com.terraforged.core.util.concurrent.batcher.Batcher;
+import com.terraforged.core.util.concurrent.batcher.SyncBatcher;
 import com.terraforged.core.world.WorldGenerator;
 import com.terraforged.core.world.WorldGeneratorFactory;
 import com.terraforged.core.world.heightmap.RegionExtent;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 public class RegionGenerator implements RegionExtent {
 
@@ -41,14 +44,29 @@ public class RegionGenerator implements RegionExtent {
     private final int border;
     private final RegionFactory regions;
     private final ThreadPool threadPool;
-    private final ObjectPool<WorldGenerator> genPool;
+    private final RegionQueue queue;
+    private final RegionQueue prefetchQueue;
+    private final WorldGenerator generator;
+    private final ChunkStore chunkStore;
+    private final TileStore tileStore;
+    private final Size filterDensity;
+    private final boolean tiledErosion;
 
     private RegionGenerator(Builder builder) {
         this.factor = builder.factor;
         this.border = builder.border;
         this.threadPool = builder.threadPool;
+        // keep speculative regions that lie within a region's width of the view distance
+        int margin = 1 << factor;
+        this.queue = new RegionQueue(threadPool, builder.focus, margin);
+        ThreadPool prefetchPool = builder.prefetchPool != null ? builder.prefetchPool : builder.threadPool;
+        this.prefetchQueue = new RegionQueue(prefetchPool, builder.focus, margin);
         this.regions = builder.regionFactory;
-        this.genPool = new ObjectPool<>(50, builder.factory);
+        this.generator = builder.factory.get();
+        this.chunkStore = new ChunkStore(factor, border);
+        this.tileStore = new TileStore(generator.getFilters());
+        this.filterDensity = builder.filterDensity;
+        this.tiledErosion = builder.tiledErosion;
     }
 
     public RegionCache toCache() {
@@ -75,7 +93,15 @@ public class RegionGenerator implements RegionExtent {
     }
 
     public CompletableFuture<Region> generate(int regionX, int regionZ) {
-        return CompletableFuture.supplyAsync(() -> generateRegion(regionX, regionZ), threadPool);
+        return queue.submit(centerChunk(regionX), centerChunk(regionZ), false, () -> generateRegion(regionX, regionZ));
+    }
+
+    /**
+     * Generates the region on the prefetch lane so that speculative work doesn't queue ahead of regions that chunk
+     * generation is blocked on
+     */
+    public CompletableFuture<Region> prefetch(int regionX, int regionZ) {
+        return prefetchQueue.submit(centerChunk(regionX), centerChunk(regionZ), true, () -> generateRegion(regionX, regionZ, true));
     }
 
     public CompletableFuture<Region> generate(float centerX, float centerZ, float zoom, boolean filter) {
@@ -83,15 +109,63 @@ public class RegionGenerator implements RegionExtent {
     }
 
     public Region generateRegion(int regionX, int regionZ) {
-        try (ObjectPool.Item<WorldGenerator> item = genPool.get()) {
-            WorldGenerator generator = item.getValue();
-            Region region = regions.create(regionX, regionZ, factor, border);
-            try (Batcher batcher = threadPool.batcher(region.getChunkCount())) {
-                region.generate(generator.getHeightmap(), batcher);
-            }
+        return generateRegion(regionX, regionZ, false);
+    }
+
+    public int getPrefetchBacklog() {
+        return prefetchQueue.size();
+    }
+
+    private int centerChunk(int region) {
+        return (region << factor) + (1 << factor) / 2;
+    }
+
+    private Region generateRegion(int regionX, int regionZ, boolean prefetch) {
+        if (!tiledErosion) {
+            Region region = generateHeightmap(regionX, regionZ, prefetch);
             postProcess(region, generator);
             return region;
         }
+
+        // the neighbours' tiles are queued on the prefetch lane (ranked & dropped alongside prefetched regions) while
+        // this thread computes the region's own
+        TileStore.Loader prefetchLoader = (x, z) -> generateHeightmap(x, z, true);
+        for (int dz = -1; dz <= 1; dz++) {
+            for (int dx = -1; dx <= 1; dx++) {
+                if (dx != 0 || dz != 0) {
+                    tileStore.prefetch(regionX + dx, regionZ + dz, prefetchLoader, this::queueTile);
+                }
+            }
+        }
+
+        TileStore.Loader loader = (x, z) -> generateHeightmap(x, z, prefetch);
+        Region region = tileStore.claim(regionX, regionZ, loader);
+
+        // the erosion of this region and its neighbours, each of which may spill over their shared edges. any tile the
+        // prefetch lane hasn't started yet is taken off its queue and computed here rather than waiting behind it
+        ErosionTile[] tiles = new ErosionTile[9];
+        for (int dz = -1, i = 0; dz <= 1; dz++) {
+            for (int dx = -1; dx <= 1; dx++, i++) {
+                tiles[i] = tileStore.getTile(regionX + dx, regionZ + dz, loader);
+            }
+        }
+
+        postProcess(region, generator, tiles);
+        return region;
+    }
+
+    private CompletableFuture<Region> queueTile(int regionX, int regionZ, Supplier<Region> work) {
+        return prefetchQueue.submit(centerChunk(regionX), centerChunk(regionZ), true, work);
+    }
+
+    private Region generateHeightmap(int regionX, int regionZ, boolean prefetch) {
+        Region region = regions.create(regionX, regionZ, factor, border);
+        // work on the prefetch lane generates its chunks on its own thread. batching them onto the lane it runs on
+        // could leave it spinning on batches queued behind other tiles that are themselves waiting
+        try (Batcher batcher = prefetch ? new SyncBatcher() : threadPool.batcher(region.getChunkCount())) {
+            region.generate(generator.getHeightmap(), chunkStore, batcher);
+        }
+        return region;
     }
 
     private void postProcess(Region region, WorldGenerator generator) {
@@ -99,22 +173,28 @@ public class RegionGenerator implements RegionExtent {
         region.decorate(generator.getDecorators().getDecorators());
     }
 
+    private void postProcess(Region region, WorldGenerator generator, ErosionTile[] tiles) {
+        generator.getFilters().apply(region, tiles);
+        region.decorate(generator.getDecorators().getDecorators());
+    }
+
     public Region generateRegion(float centerX, float centerZ, float zoom, boolean filter) {
-        try (ObjectPool.Item<WorldGenerator> item = genPool.get()) {
-            WorldGenerator generator = item.getValue();
-            Region region = regions.create(0, 0, factor, border);
-            try (Batcher batcher = threadPool.batcher(region.getChunkCount())) {
-                region.generateZoom(generator.getHeightmap(), centerX, centerZ, zoom, batcher);
-            }
-            region.check();
-            postProcess(region, generator, centerX, centerZ, zoom, filter);
-            return region;
+        Region region = regions.create(0, 0, factor, border);
+        try (Batcher batcher = threadPool.batcher(region.getChunkCount())) {
+            region.generateZoom(generator.getHeightmap(), centerX, centerZ, zoom, batcher);
         }
+        region.check();
+        postProcess(region, generator, centerX, centerZ, zoom, filter);
+        return region;
     }
 
     private void postProcess(Region region, WorldGenerator generator, float centerX, float centerZ, float zoom, boolean filter) {
         if (filter) {
-            generator.getFilters().apply(region);
+            if (filterDensity == null) {
+                generator.getFilters().apply(region);
+            } else {
+                generator.getFilters().apply(region, filterDensity);
+            }
         }
         region.decorateZoom(generator.getDecorators().getDecorators(), centerX, centerZ, zoom);
     }
@@ -128,8 +208,12 @@ public class RegionGenerator implements RegionExtent {
         private int factor = 0;
         private int border = 0;
         private ThreadPool threadPool;
+        private ThreadPool prefetchPool;
+        private RegionFocus focus = new RegionFocus();
         private WorldGeneratorFactory factory;
         private RegionFactory regionFactory = Region::new;
+        private Size filterDensity;
+        private boolean tiledErosion = true;
 
         public Builder size(int factor, int border) {
             return factor(factor).border(border);
@@ -150,6 +234,20 @@ public class RegionGenerator implements RegionExtent {
             return this;
         }
 
+        public Builder prefetch(ThreadPool threadPool) {
+            this.prefetchPool = threadPool;
+            return this;
+        }
+
+        public Builder focus(RegionFocus focus) {
+            this.focus = focus;
+            return this;
+        }
+
+        public Builder executors(WorldExecutors executors) {
+            return pool(executors.generation()).prefetch(executors.prefetch());
+        }
+
         public Builder regions(RegionFactory factory) {
             this.regionFactory = factory;
             return this;
@@ -162,6 +260,23 @@ public class RegionGenerator implements RegionExtent {
             return this;
         }
 
+        /**
+         * Whether regions are eroded together with their neighbours' tiles so that erosion is continuous across their
+         * edges. Worlds created before this was introduced erode each region on its own to keep their terrain the same
+         */
+        public Builder tiledErosion(boolean tiledErosion) {
+            this.tiledErosion = tiledErosion;
+            return this;
+        }
+
+        /**
+         * Erodes zoomed regions at the droplet density of a region of the given size instead of their own
+         */
+        public Builder filterDensity(int factor, int border) {
+            this.filterDensity = Size.blocks(factor, border);
+            return this;
+        }
+
         public Builder factory(WorldGeneratorFactory factory) {
             this.factory = factory;
             return this;
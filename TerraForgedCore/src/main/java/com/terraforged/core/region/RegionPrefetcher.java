@@ -0,0 +1,225 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2020 TerraForged
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.terraforged.core.region;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Predicts the regions that moving players will need a few seconds ahead and queues them on the cache's prefetch lane.
+ *
+ * Each player's velocity is estimated from successive updates. Their projected positions are added to the RegionFocus
+ * so that predicted work is ranked alongside, and not dropped as out of range of, their current position. Regions
+ * along the leading edge of their view distance are then queued, nearest in time first, until the prefetch lane's
+ * backlog reaches the budget.
+ *
+ * Updates are expected from a single thread (ie the server tick).
+ */
+public class RegionPrefetcher {
+
+    // weight given to the newest velocity sample
+    private static final float SMOOTHING = 0.5F;
+    // below this speed (chunks per second) a player is treated as stationary
+    private static final float MIN_SPEED = 0.25F;
+    // samples faster than this (chunks per second) are teleports rather than movement
+    private static final float MAX_SPEED = 16F;
+
+    private final RegionCache cache;
+    private final RegionFocus focus;
+    private final int regionChunks;
+    private final Map<Integer, Track> tracks = new HashMap<>();
+
+    private float lookahead = 5F;
+    private int budget = 4;
+    private long prefetched = 0L;
+
+    public RegionPrefetcher(RegionCache cache, RegionFocus focus, int regionChunks) {
+        this.cache = cache;
+        this.focus = focus;
+        this.regionChunks = regionChunks;
+    }
+
+    /**
+     * How many seconds ahead of each player to prefetch
+     */
+    public RegionPrefetcher lookahead(float seconds) {
+        this.lookahead = seconds;
+        return this;
+    }
+
+    /**
+     * The maximum number of regions allowed to be waiting on the prefetch lane
+     */
+    public RegionPrefetcher budget(int regions) {
+        this.budget = regions;
+        return this;
+    }
+
+    public long getPrefetched() {
+        return prefetched;
+    }
+
+    /**
+     * The fraction of region requests that found their region already generated
+     */
+    public float getHitRate() {
+        long hits = cache.getHits();
+        long total = hits + cache.getWaits() + cache.getMisses();
+        return total == 0 ? 0F : hits / (float) total;
+    }
+
+    /**
+     * @param time         the current time in milliseconds
+     * @param ids          a unique id for each player
+     * @param chunkX       each player's position in chunk coordinates
+     * @param chunkZ       each player's position in chunk coordinates
+     * @param viewDistance the view distance in chunks
+     */
+    public void update(long time, int[] ids, float[] chunkX, float[] chunkZ, int viewDistance) {
+        for (Track track : tracks.values()) {
+            track.present = false;
+        }
+
+        int moving = 0;
+        for (int i = 0; i < ids.length; i++) {
+            Track track = tracks.computeIfAbsent(ids[i], id -> new Track());
+            track.update(time, chunkX[i], chunkZ[i]);
+            if (track.isMoving()) {
+                moving++;
+            }
+        }
+
+        Iterator<Track> iterator = tracks.values().iterator();
+        while (iterator.hasNext()) {
+            if (!iterator.next().present) {
+                iterator.remove();
+            }
+        }
+
+        // current positions plus the projected position of each moving player
+        int[] focusX = new int[ids.length + moving];
+        int[] focusZ = new int[ids.length + moving];
+        int index = ids.length;
+        for (int i = 0; i < ids.length; i++) {
+            Track track = tracks.get(ids[i]);
+            focusX[i] = (int) Math.floor(chunkX[i]);
+            focusZ[i] = (int) Math.floor(chunkZ[i]);
+            if (track.isMoving()) {
+                focusX[index] = (int) Math.floor(chunkX[i] + track.velocityX * lookahead);
+                focusZ[index] = (int) Math.floor(chunkZ[i] + track.velocityZ * lookahead);
+                index++;
+            }
+        }
+        focus.update(focusX, focusZ, viewDistance);
+
+        for (int i = 0; i < ids.length; i++) {
+            Track track = tracks.get(ids[i]);
+            if (track.isMoving() && !prefetch(chunkX[i], chunkZ[i], track, viewDistance)) {
+                return;
+            }
+        }
+    }
+
+    // returns false once the budget has been used up
+    private boolean prefetch(float x, float z, Track track, int viewDistance) {
+        float speed = track.getSpeed();
+        float dirX = track.velocityX / speed;
+        float dirZ = track.velocityZ / speed;
+
+        // sample the path once per region width travelled
+        float distance = speed * lookahead;
+        int steps = Math.max(1, (int) Math.ceil(distance / regionChunks));
+        for (int step = 1; step <= steps; step++) {
+            float t = distance * step / steps;
+            float px = x + dirX * t;
+            float pz = z + dirZ * t;
+
+            // the leading edge of the view distance plus either side of it
+            float edgeX = px + dirX * viewDistance;
+            float edgeZ = pz + dirZ * viewDistance;
+            if (!prefetch(edgeX, edgeZ)) {
+                return false;
+            }
+            if (!prefetch(edgeX - dirZ * viewDistance, edgeZ + dirX * viewDistance)) {
+                return false;
+            }
+            if (!prefetch(edgeX + dirZ * viewDistance, edgeZ - dirX * viewDistance)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean prefetch(float chunkX, float chunkZ) {
+        if (cache.getPrefetchBacklog() >= budget) {
+            return false;
+        }
+        int regionX = cache.chunkToRegion((int) Math.floor(chunkX));
+        int regionZ = cache.chunkToRegion((int) Math.floor(chunkZ));
+        if (cache.prefetch(regionX, regionZ)) {
+            prefetched++;
+        }
+        return true;
+    }
+
+    private static class Track {
+
+        private long time = -1L;
+        private float x;
+        private float z;
+        private float velocityX;
+        private float velocityZ;
+        private boolean present;
+
+        private void update(long time, float x, float z) {
+            if (this.time != -1L && time > this.time) {
+                float seconds = (time - this.time) / 1000F;
+                float vx = (x - this.x) / seconds;
+                float vz = (z - this.z) / seconds;
+                if (vx * vx + vz * vz > MAX_SPEED * MAX_SPEED) {
+                    velocityX = 0F;
+                    velocityZ = 0F;
+                } else {
+                    velocityX += (vx - velocityX) * SMOOTHING;
+                    velocityZ += (vz - velocityZ) * SMOOTHING;
+                }
+            }
+            this.time = time;
+            this.x = x;
+            this.z = z;
+            this.present = true;
+        }
+
+        private float getSpeed() {
+            return (float) Math.sqrt(velocityX * velocityX + velocityZ * velocityZ);
+        }
+
+        private boolean isMoving() {
+            return getSpeed() > MIN_SPEED;
+        }
+    }
+}
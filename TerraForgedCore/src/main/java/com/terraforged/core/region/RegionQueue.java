@@ -0,0 +1,185 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2020 TerraForged
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.terraforged.core.region;
+
+import com.terraforged.core.util.concurrent.ThreadPool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Feeds region tasks to a pool best-first rather than in submission order.
+ *
+ * Tasks are ranked at the time a worker becomes free: requested regions before speculative ones, then by distance to
+ * the nearest point of interest of the RegionFocus, then by age. Speculative tasks that have fallen out of range by
+ * then are dropped. A thread that needs the result of a task that hasn't started yet takes it off the queue and runs
+ * it itself rather than waiting behind other work.
+ */
+public class RegionQueue {
+
+    private final int margin;
+    private final ThreadPool pool;
+    private final RegionFocus focus;
+    private final List<Task> tasks = new ArrayList<>();
+
+    private long sequence = 0L;
+
+    /**
+     * @param margin how many chunks beyond the focus' view distance speculative tasks are kept for
+     */
+    public RegionQueue(ThreadPool pool, RegionFocus focus, int margin) {
+        this.pool = pool;
+        this.focus = focus;
+        this.margin = margin;
+    }
+
+    public Task submit(int chunkX, int chunkZ, boolean speculative, Supplier<Region> work) {
+        Task task;
+        synchronized (tasks) {
+            task = new Task(this, chunkX, chunkZ, speculative, sequence++, work);
+            tasks.add(task);
+        }
+        pool.execute(this::runNext);
+        return task;
+    }
+
+    public int size() {
+        synchronized (tasks) {
+            return tasks.size();
+        }
+    }
+
+    // each submit schedules one of these so there is always at least one per pending task
+    private void runNext() {
+        Task task = poll();
+        if (task != null) {
+            task.run();
+        }
+    }
+
+    private Task poll() {
+        synchronized (tasks) {
+            int best = -1;
+            long bestDistance = 0L;
+            for (int i = tasks.size() - 1; i >= 0; i--) {
+                Task task = tasks.get(i);
+                long distance = focus.getDistance2(task.chunkX, task.chunkZ);
+                if (task.speculative && focus.isOutOfRange(distance, margin)) {
+                    tasks.remove(i);
+                    task.cancel(false);
+                    if (best > i) {
+                        best--;
+                    }
+                    continue;
+                }
+                if (best == -1 || task.isBefore(distance, tasks.get(best), bestDistance)) {
+                    best = i;
+                    bestDistance = distance;
+                }
+            }
+            return best == -1 ? null : tasks.remove(best);
+        }
+    }
+
+    private boolean remove(Task task) {
+        synchronized (tasks) {
+            return tasks.remove(task);
+        }
+    }
+
+    /**
+     * Returns the region, running the task on the calling thread if it is still queued (or was dropped)
+     */
+    public static Region join(CompletableFuture<Region> future) {
+        if (future instanceof Task) {
+            return ((Task) future).block();
+        }
+        return future.join();
+    }
+
+    public static class Task extends CompletableFuture<Region> {
+
+        private final RegionQueue queue;
+        private final int chunkX;
+        private final int chunkZ;
+        private final boolean speculative;
+        private final long sequence;
+        private final Supplier<Region> work;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        private Task(RegionQueue queue, int chunkX, int chunkZ, boolean speculative, long sequence, Supplier<Region> work) {
+            this.queue = queue;
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+            this.speculative = speculative;
+            this.sequence = sequence;
+            this.work = work;
+        }
+
+        private boolean isBefore(long distance, Task other, long otherDistance) {
+            if (speculative != other.speculative) {
+                return !speculative;
+            }
+            if (distance != otherDistance) {
+                return distance < otherDistance;
+            }
+            return sequence < other.sequence;
+        }
+
+        private void run() {
+            if (claimed.compareAndSet(false, true)) {
+                try {
+                    complete(work.get());
+                } catch (Throwable t) {
+                    completeExceptionally(t);
+                }
+            }
+        }
+
+        private Region block() {
+            queue.remove(this);
+            if (claimed.compareAndSet(false, true)) {
+                try {
+                    Region region = work.get();
+                    // no-op if the task was dropped, in which case the caller should replace it with the result
+                    complete(region);
+                    return region;
+                } catch (RuntimeException | Error e) {
+                    completeExceptionally(e);
+                    throw e;
+                }
+            }
+            if (isCancelled()) {
+                // dropped and claimed by another blocked thread, which may not have finished yet
+                return work.get();
+            }
+            return join();
+        }
+    }
+}
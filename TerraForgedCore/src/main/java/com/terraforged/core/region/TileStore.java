@@ -0,0 +1,232 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2020 TerraForged
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.terraforged.core.region;
+
+import com.terraforged.core.filter.ErosionTile;
+import com.terraforged.core.world.WorldFilters;
+import me.dags.noise.util.NoiseUtil;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Holds each region's unfiltered heightmap and the erosion of its interior so that neighbouring regions can
+ * exchange the erosion that spills over their shared edges.
+ *
+ * A tile is computed once, either by a task queued on a RegionQueue (see prefetch) or by the first thread that needs
+ * it, which takes the task off the queue if it hasn't started yet. No lock is held while a tile is computed; threads
+ * that need a tile that is already being computed wait on its future.
+ *
+ * The unfiltered region is kept until the region itself claims it. A tile is released once all nine regions that
+ * overlap it have applied it. Tiles whose neighbours are never generated expire after a while, along with any region
+ * that wasn't claimed, and are recomputed if needed later. No other limit is placed on the retained regions as the
+ * number in flight depends on how many players are being prefetched around.
+ */
+public class TileStore {
+
+    private static final int USES = 9;
+    private static final long LIFESPAN = TimeUnit.SECONDS.toMillis(120);
+    private static final long INTERVAL = TimeUnit.SECONDS.toMillis(30);
+
+    private final WorldFilters filters;
+    private final Map<Long, Entry> tiles = new ConcurrentHashMap<>();
+    private final AtomicInteger retained = new AtomicInteger();
+
+    private volatile long lastUpdate = System.currentTimeMillis();
+
+    public TileStore(WorldFilters filters) {
+        this.filters = filters;
+    }
+
+    /**
+     * Queues the tile to be computed, unless it has already been started or queued
+     */
+    public void prefetch(int regionX, int regionZ, Loader loader, Scheduler scheduler) {
+        getEntry(regionX, regionZ).queue(loader, scheduler);
+    }
+
+    /**
+     * Returns the unfiltered region, computing its tile on the calling thread if that hasn't been started
+     */
+    public Region claim(int regionX, int regionZ, Loader loader) {
+        Entry entry = getEntry(regionX, regionZ);
+        entry.block(loader);
+        Region region = entry.takeRegion();
+        update();
+        if (region == null) {
+            // already claimed once (eg the region expired from the cache and is being regenerated) or dropped
+            return loader.load(regionX, regionZ);
+        }
+        return region;
+    }
+
+    /**
+     * Returns the erosion of the region's interior, computing it on the calling thread if that hasn't been started
+     */
+    public ErosionTile getTile(int regionX, int regionZ, Loader loader) {
+        Entry entry = getEntry(regionX, regionZ);
+        ErosionTile tile = entry.block(loader);
+        if (entry.release()) {
+            tiles.remove(entry.id, entry);
+            // normally claimed already, unless the region was never requested
+            entry.takeRegion();
+        }
+        return tile;
+    }
+
+    public int size() {
+        return tiles.size();
+    }
+
+    public int getRetained() {
+        return retained.get();
+    }
+
+    private Entry getEntry(int regionX, int regionZ) {
+        return tiles.computeIfAbsent(NoiseUtil.seed(regionX, regionZ), id -> new Entry(id, regionX, regionZ));
+    }
+
+    private void retain(Entry entry, Region region) {
+        entry.region.set(region);
+        retained.incrementAndGet();
+    }
+
+    private void update() {
+        long time = System.currentTimeMillis();
+        if (time - lastUpdate < INTERVAL) {
+            return;
+        }
+        lastUpdate = time;
+        tiles.values().removeIf(entry -> {
+            // tiles still being computed are left for whoever is waiting on them
+            if (entry.isDone() && time - entry.time >= LIFESPAN) {
+                entry.takeRegion();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    public interface Loader {
+
+        /**
+         * Generates the unfiltered region
+         */
+        Region load(int regionX, int regionZ);
+    }
+
+    public interface Scheduler {
+
+        /**
+         * Queues the tile's work, returning its task so that a thread that needs the tile can steal it (see
+         * RegionQueue#join). The work always returns null
+         */
+        CompletableFuture<Region> submit(int regionX, int regionZ, Supplier<Region> work);
+    }
+
+    private class Entry extends CompletableFuture<ErosionTile> {
+
+        private final long id;
+        private final int regionX;
+        private final int regionZ;
+        private final long time = System.currentTimeMillis();
+        private final AtomicInteger uses = new AtomicInteger(USES);
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final AtomicReference<Region> region = new AtomicReference<>();
+        private volatile CompletableFuture<Region> task;
+
+        private Entry(long id, int regionX, int regionZ) {
+            this.id = id;
+            this.regionX = regionX;
+            this.regionZ = regionZ;
+        }
+
+        private boolean isStarted() {
+            return started.get();
+        }
+
+        // a task that was dropped from the queue (ie fell out of range) is replaced
+        private synchronized void queue(Loader loader, Scheduler scheduler) {
+            if (isStarted() || (task != null && !task.isCancelled())) {
+                return;
+            }
+            task = scheduler.submit(regionX, regionZ, () -> {
+                run(loader);
+                return null;
+            });
+        }
+
+        // run by a queued task, a no-op if another thread got to it first
+        private void run(Loader loader) {
+            if (started.compareAndSet(false, true)) {
+                compute(loader);
+            }
+        }
+
+        // computes the tile on the calling thread if it hasn't been started, otherwise waits for it. a queued task is
+        // taken off its queue and run here (with the task's loader)
+        private ErosionTile block(Loader loader) {
+            CompletableFuture<Region> task = this.task;
+            if (task != null) {
+                RegionQueue.join(task);
+            }
+            run(loader);
+            return join();
+        }
+
+        private void compute(Loader loader) {
+            try {
+                Region region = loader.load(regionX, regionZ);
+                ErosionTile tile = filters.erode(region);
+                retain(this, region);
+                complete(tile);
+            } catch (Throwable t) {
+                // let the next request start over rather than fail on this entry until it expires
+                tiles.remove(id, this);
+                completeExceptionally(t);
+            }
+        }
+
+        private Region takeRegion() {
+            Region region = this.region.getAndSet(null);
+            if (region != null) {
+                retained.decrementAndGet();
+            }
+            return region;
+        }
+
+        // returns true once every region that overlaps the tile has applied it
+        private boolean release() {
+            return uses.decrementAndGet() <= 0;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2020 TerraForged
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.terraforged.core.region.chunk;
+
+import com.terraforged.core.cell.Cell;
+import com.terraforged.core.region.ChunkStore;
+import com.terraforged.core.world.heightmap.Heightmap;
+import com.terraforged.core.world.terrain.Terrain;
+
+public class ChunkCopyTask extends ChunkGenTask {
+
+    private final ChunkStore store;
+    private final int uses;
+
+    public ChunkCopyTask(ChunkWriter chunk, Heightmap heightmap, ChunkStore store, int uses) {
+        super(chunk, heightmap);
+        this.store = store;
+        this.uses = uses;
+    }
+
+    @Override
+    public void run() {
+        Cell<Terrain>[] cells = store.acquire(chunk.getChunkX(), chunk.getChunkZ(), uses, heightmap);
+        chunk.generate((cell, dx, dz) -> cell.copy(cells[(dz << 4) + dx]));
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2020 TerraForged
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.terraforged.core.region.chunk;
+
+import com.terraforged.core.cell.Cell;
+import com.terraforged.core.world.biome.BiomeType;
+import com.terraforged.core.world.terrain.Terrain;
+
+import java.util.Arrays;
+
+/**
+ * A compact, self-contained copy of a 16x16 chunk's cells that does not reference the Region it was read from.
+ * Bounded (0-1) values are quantized to 16 bits, height/erosion/sediment are kept at full precision.
+ */
+public class ChunkSnapshot implements ChunkReader {
+
+    public static final int SIZE = 16 * 16;
+    public static final int CHANNELS = 13;
+
+    private static final int CONTINENT = 0;
+    private static final int CONTINENT_EDGE = 1;
+    private static final int REGION = 2;
+    private static final int REGION_EDGE = 3;
+    private static final int BIOME = 4;
+    private static final int BIOME_EDGE = 5;
+    private static final int RIVER_MASK = 6;
+    private static final int BIOME_MOISTURE = 7;
+    private static final int BIOME_TEMPERATURE = 8;
+    private static final int MOISTURE = 9;
+    private static final int TEMPERATURE = 10;
+    private static final int STEEPNESS = 11;
+    private static final int BIOME_TYPE_MASK = 12;
+
+    private static final float QUANT = 65535F;
+    private static final BiomeType[] BIOME_TYPES = BiomeType.values();
+
+    private final int chunkX;
+    private final int chunkZ;
+    private final float[] height;
+    private final float[] erosion;
+    private final float[] sediment;
+    private final char[] channels;
+    private final byte[] biomeType;
+    private final byte[] terrain;
+    private final Terrain[] palette;
+
+    private ChunkSnapshot(int chunkX, int chunkZ, float[] height, float[] erosion, float[] sediment, char[] channels, byte[] biomeType, byte[] terrain, Terrain[] palette) {
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+        this.height = height;
+        this.erosion = erosion;
+        this.sediment = sediment;
+        this.channels = channels;
+        this.biomeType = biomeType;
+        this.terrain = terrain;
+        this.palette = palette;
+    }
+
+    @Override
+    public int getChunkX() {
+        return chunkX;
+    }
+
+    @Override
+    public int getChunkZ() {
+        return chunkZ;
+    }
+
+    @Override
+    public int getBlockX() {
+        return chunkX << 4;
+    }
+
+    @Override
+    public int getBlockZ() {
+        return chunkZ << 4;
+    }
+
+    @Override
+    public Cell<Terrain> getCell(int dx, int dz) {
+        Cell<Terrain> cell = new Cell<>();
+        read(indexOf(dx, dz), cell);
+        return cell;
+    }
+
+    @Override
+    public void iterate(Cell.Visitor<Terrain> visitor) {
+        // the visited cell is re-used between columns
+        Cell<Terrain> cell = new Cell<>();
+        for (int dz = 0; dz < 16; dz++) {
+            for (int dx = 0; dx < 16; dx++) {
+                read(indexOf(dx, dz), cell);
+                visitor.visit(cell, dx, dz);
+            }
+        }
+    }
+
+    public float getHeight(int dx, int dz) {
+        return height[indexOf(dx, dz)];
+    }
+
+    public Terrain getTerrain(int dx, int dz) {
+        return palette[terrain[indexOf(dx, dz)] & 0xFF];
+    }
+
+    /*
+     * Raw storage accessors for serialization - returned arrays must not be modified
+     */
+
+    public float[] getHeightData() {
+        return height;
+    }
+
+    public float[] getErosionData() {
+        return erosion;
+    }
+
+    public float[] getSedimentData() {
+        return sediment;
+    }
+
+    public char[] getChannelData() {
+        return channels;
+    }
+
+    public byte[] getBiomeTypeData() {
+        return biomeType;
+    }
+
+    public byte[] getTerrainData() {
+        return terrain;
+    }
+
+    public Terrain[] getPalette() {
+        return palette;
+    }
+
+    private void read(int index, Cell<Terrain> cell) {
+        cell.value = height[index];
+        cell.erosion = erosion[index];
+        cell.sediment = sediment[index];
+        cell.continent = get(CONTINENT, index);
+        cell.continentEdge = get(CONTINENT_EDGE, index);
+        cell.region = get(REGION, index);
+        cell.regionEdge = get(REGION_EDGE, index);
+        cell.biome = get(BIOME, index);
+        cell.biomeEdge = get(BIOME_EDGE, index);
+        cell.riverMask = get(RIVER_MASK, index);
+        cell.biomeMoisture = get(BIOME_MOISTURE, index);
+        cell.biomeTemperature = get(BIOME_TEMPERATURE, index);
+        cell.moisture = get(MOISTURE, index);
+        cell.temperature = get(TEMPERATURE, index);
+        cell.steepness = get(STEEPNESS, index);
+        cell.biomeTypeMask = get(BIOME_TYPE_MASK, index);
+        cell.biomeType = BIOME_TYPES[biomeType[index] & 0xFF];
+        cell.tag = palette[terrain[index] & 0xFF];
+    }
+
+    private float get(int channel, int index) {
+        return channels[channel * SIZE + index] / QUANT;
+    }
+
+    private static int indexOf(int dx, int dz) {
+        return ((dz & 15) << 4) + (dx & 15);
+    }
+
+    public static ChunkSnapshot of(int chunkX, int chunkZ, float[] height, float[] erosion, float[] sediment, char[] channels, byte[] biomeType, byte[] terrain, Terrain[] palette) {
+        check("height", height.length, SIZE);
+        check("erosion", erosion.length, SIZE);
+        check("sediment", sediment.length, SIZE);
+        check("channels", channels.length, CHANNELS * SIZE);
+        check("biomeType", biomeType.length, SIZE);
+        check("terrain", terrain.length, SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            if ((terrain[i] & 0xFF) >= palette.length) {
+                throw new IllegalArgumentException("Terrain index out of bounds: " + (terrain[i] & 0xFF));
+            }
+            if ((biomeType[i] & 0xFF) >= BIOME_TYPES.length) {
+                throw new IllegalArgumentException("BiomeType index out of bounds: " + (biomeType[i] & 0xFF));
+            }
+        }
+        return new ChunkSnapshot(chunkX, chunkZ, height, erosion, sediment, channels, biomeType, terrain, palette);
+    }
+
+    private static void check(String name, int length, int expected) {
+        if (length != expected) {
+            throw new IllegalArgumentException("Invalid " + name + " length: " + length + ", expected: " + expected);
+        }
+    }
+
+    public static ChunkSnapshot of(ChunkReader reader) {
+        if (reader instanceof ChunkSnapshot) {
+            return (ChunkSnapshot) reader;
+        }
+
+        Builder builder = new Builder(reader.getChunkX(), reader.getChunkZ());
+        reader.iterate((cell, dx, dz) -> builder.set(indexOf(dx, dz), cell));
+        return builder.build();
+    }
+
+    private static class Builder {
+
+        private final int chunkX;
+        private final int chunkZ;
+        private final float[] height = new float[SIZE];
+        private final float[] erosion = new float[SIZE];
+        private final float[] sediment = new float[SIZE];
+        private final char[] channels = new char[CHANNELS * SIZE];
+        private final byte[] biomeType = new byte[SIZE];
+        private final byte[] terrain = new byte[SIZE];
+        private Terrain[] palette = new Terrain[4];
+        private int paletteSize = 0;
+
+        private Builder(int chunkX, int chunkZ) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+
+        private void set(int index, Cell<Terrain> cell) {
+            height[index] = cell.value;
+            erosion[index] = cell.erosion;
+            sediment[index] = cell.sediment;
+            set(CONTINENT, index, cell.continent);
+            set(CONTINENT_EDGE, index, cell.continentEdge);
+            set(REGION, index, cell.region);
+            set(REGION_EDGE, index, cell.regionEdge);
+            set(BIOME, index, cell.biome);
+            set(BIOME_EDGE, index, cell.biomeEdge);
+            set(RIVER_MASK, index, cell.riverMask);
+            set(BIOME_MOISTURE, index, cell.biomeMoisture);
+            set(BIOME_TEMPERATURE, index, cell.biomeTemperature);
+            set(MOISTURE, index, cell.moisture);
+            set(TEMPERATURE, index, cell.temperature);
+            set(STEEPNESS, index, cell.steepness);
+            set(BIOME_TYPE_MASK, index, cell.biomeTypeMask);
+            biomeType[index] = (byte) cell.biomeType.ordinal();
+            terrain[index] = (byte) paletteIndex(cell.tag);
+        }
+
+        private void set(int channel, int index, float value) {
+            if (value < 0) {
+                value = 0;
+            } else if (value > 1) {
+                value = 1;
+            }
+            channels[channel * SIZE + index] = (char) Math.round(value * QUANT);
+        }
+
+        private int paletteIndex(Terrain tag) {
+            for (int i = 0; i < paletteSize; i++) {
+                if (palette[i] == tag) {
+                    return i;
+                }
+            }
+            if (paletteSize == palette.length) {
+                palette = Arrays.copyOf(palette, paletteSize * 2);
+            }
+            palette[paletteSize] = tag;
+            return paletteSize++;
+        }
+
+        private ChunkSnapshot build() {
+            return new ChunkSnapshot(chunkX, chunkZ, height, erosion, sediment, channels, biomeType, terrain, Arrays.copyOf(palette, paletteSize));
+        }
+    }
+}
@@ -25,46 +25,168 @@
 
 package com.terraforged.core.util.concurrent;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
+/**
+ * Items are borrowed from and restored to a small per-thread magazine. Full magazines are handed off to a lock-free
+ * (Treiber) stack shared between threads, and empty magazines are refilled from it, so the shared state is only
+ * touched once every magazine's-worth of borrows/restores.
+ *
+ * The capacity only bounds the shared stack. Each thread that uses the pool may additionally hold up to one
+ * magazine's-worth of items (min(16, capacity)), so at most capacity + min(16, capacity) * threads items are retained.
+ * Items in an idle thread's magazine are not available to other threads, and those of a dead thread are left to be
+ * garbage collected along with its thread-local rather than returned to the pool.
+ */
 public class ObjectPool<T> {
 
+    private static final int MAGAZINE_SIZE = 16;
+
     private final int capacity;
-    private final List<Item<T>> pool;
+    private final int magazineSize;
     private final Supplier<? extends T> supplier;
+    private final ThreadLocal<Magazine<T>> magazine;
+    private final AtomicReference<Node<T>> shared = new AtomicReference<>();
+    private final AtomicInteger sharedSize = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
 
     public ObjectPool(int size, Supplier<? extends T> supplier) {
         this.capacity = size;
-        this.pool = new ArrayList<>(size);
+        this.magazineSize = Math.max(1, Math.min(MAGAZINE_SIZE, size));
         this.supplier = supplier;
+        this.magazine = ThreadLocal.withInitial(() -> new Magazine<>(magazineSize));
     }
 
     public Item<T> get() {
-        synchronized (pool) {
-            if (pool.size() > 0) {
-                return pool.remove(pool.size() - 1).retain();
+        Magazine<T> magazine = this.magazine.get();
+        if (magazine.size == 0) {
+            Node<T> node = pop();
+            if (node != null) {
+                magazine.refill(node);
             }
         }
+
+        if (magazine.size > 0) {
+            hits.increment();
+            return magazine.pop().retain();
+        }
+
+        misses.increment();
         return new Item<>(supplier.get(), this);
     }
 
+    /**
+     * The number of items available to the calling thread, ie those in the shared stack plus its own magazine. Items
+     * held in other threads' magazines are not counted, so this is not the pool's total retained size
+     */
     public int size() {
-        synchronized (pool) {
-            return pool.size();
-        }
+        return sharedSize.get() + magazine.get().size;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
     }
 
     private boolean restore(Item<T> item) {
-        synchronized (pool) {
-            int size = pool.size();
-            if (size < capacity) {
-                pool.add(item);
+        Magazine<T> magazine = this.magazine.get();
+        if (magazine.size == magazineSize) {
+            if (!push(magazine.items, magazine.size)) {
+                return false;
+            }
+            magazine.swap();
+        }
+        magazine.push(item);
+        return true;
+    }
+
+    private boolean push(Item<T>[] items, int size) {
+        while (true) {
+            int current = sharedSize.get();
+            if (current + size > capacity) {
+                return false;
+            }
+            if (sharedSize.compareAndSet(current, current + size)) {
+                break;
+            }
+        }
+
+        Node<T> node = new Node<>(items, size);
+        while (true) {
+            Node<T> head = shared.get();
+            node.next = head;
+            if (shared.compareAndSet(head, node)) {
                 return true;
             }
         }
-        return false;
+    }
+
+    private Node<T> pop() {
+        while (true) {
+            Node<T> head = shared.get();
+            if (head == null) {
+                return null;
+            }
+            if (shared.compareAndSet(head, head.next)) {
+                sharedSize.addAndGet(-head.size);
+                return head;
+            }
+        }
+    }
+
+    private static class Node<T> {
+
+        private final Item<T>[] items;
+        private final int size;
+        private Node<T> next;
+
+        private Node(Item<T>[] items, int size) {
+            this.items = items;
+            this.size = size;
+        }
+    }
+
+    private static class Magazine<T> {
+
+        private Item<T>[] items;
+        private Item<T>[] spare;
+        private int size = 0;
+
+        @SuppressWarnings("unchecked")
+        private Magazine(int capacity) {
+            this.items = new Item[capacity];
+        }
+
+        private Item<T> pop() {
+            Item<T> item = items[--size];
+            items[size] = null;
+            return item;
+        }
+
+        private void push(Item<T> item) {
+            items[size++] = item;
+        }
+
+        // adopts the full array of a node popped from the shared stack, keeping the empty one for the next swap
+        private void refill(Node<T> node) {
+            spare = items;
+            items = node.items;
+            size = node.size;
+        }
+
+        // replaces the full array just handed to the shared stack with an empty one
+        @SuppressWarnings("unchecked")
+        private void swap() {
+            items = spare != null ? spare : new Item[items.length];
+            spare = null;
+            size = 0;
+        }
     }
 
     public static class Item<T> implements AutoCloseable {
@@ -35,6 +35,8 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class ThreadPool implements Executor {
 
@@ -57,6 +59,16 @@ public class ThreadPool implements Executor {
         this.poolSize = size;
     }
 
+    public ThreadPool(String name, int size, int priority) {
+        this.service = Executors.newFixedThreadPool(size, factory(name, priority));
+        this.poolSize = size;
+    }
+
+    private ThreadPool(ExecutorService service, int size) {
+        this.service = service;
+        this.poolSize = size;
+    }
+
     public void shutdown() {
         if (poolSize > 0) {
             service.shutdown();
@@ -120,6 +132,29 @@ public class ThreadPool implements Executor {
         }
     }
 
+    /**
+     * An unbounded pool for tasks that spend most of their time blocked (ie joining futures). Uses a virtual thread per
+     * task when the JDK supports them, otherwise falls back to a cached pool of named daemon threads.
+     */
+    public static ThreadPool unbounded(String name) {
+        try {
+            Object service = Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            return new ThreadPool((ExecutorService) service, Integer.MAX_VALUE);
+        } catch (ReflectiveOperationException e) {
+            return new ThreadPool(Executors.newCachedThreadPool(factory(name, Thread.NORM_PRIORITY)), Integer.MAX_VALUE);
+        }
+    }
+
+    private static ThreadFactory factory(String name, int priority) {
+        AtomicInteger counter = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, name + "-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            thread.setPriority(priority);
+            return thread;
+        };
+    }
+
     private static int defaultPoolSize() {
         int threads = Runtime.getRuntime().availableProcessors();
         return Math.max(2, (int) ((threads / 3F) * 2));
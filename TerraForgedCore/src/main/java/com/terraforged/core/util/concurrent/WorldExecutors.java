@@ -0,0 +1,147 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2020 TerraForged
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.terraforged.core.util.concurrent;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The executors owned by a single world, split into lanes so that one kind of work can't starve another:
+ *
+ * - generation: regions that chunk generation is waiting on
+ * - prefetch: speculative regions (ie neighbours of the one just requested)
+ * - background: long running user tasks such as searches and exports
+ * - blocking: optional lane for tasks that mostly wait on other lanes, backed by virtual threads where available
+ */
+public class WorldExecutors {
+
+    private static final Set<WorldExecutors> ACTIVE = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    private final String name;
+    private final ThreadPool generation;
+    private final ThreadPool prefetch;
+    private final ThreadPool background;
+    private final ThreadPool blocking;
+
+    private WorldExecutors(Builder builder) {
+        this.name = builder.name;
+        this.generation = new ThreadPool(name + "-Generation", builder.generationThreads, builder.generationPriority);
+        this.prefetch = new ThreadPool(name + "-Prefetch", builder.prefetchThreads, builder.prefetchPriority);
+        this.background = new ThreadPool(name + "-Background", builder.backgroundThreads, builder.backgroundPriority);
+        this.blocking = builder.blocking ? ThreadPool.unbounded(name + "-Blocking") : background;
+        ACTIVE.add(this);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ThreadPool generation() {
+        return generation;
+    }
+
+    public ThreadPool prefetch() {
+        return prefetch;
+    }
+
+    public ThreadPool background() {
+        return background;
+    }
+
+    /**
+     * Returns the blocking lane, or the background lane if it was not enabled
+     */
+    public ThreadPool blocking() {
+        return blocking;
+    }
+
+    public void shutdown() {
+        if (ACTIVE.remove(this)) {
+            generation.shutdown();
+            prefetch.shutdown();
+            background.shutdown();
+            blocking.shutdown();
+        }
+    }
+
+    public static WorldExecutors create(String name) {
+        return builder(name).build();
+    }
+
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    public static void shutdownAll() {
+        for (WorldExecutors executors : ACTIVE) {
+            executors.shutdown();
+        }
+    }
+
+    public static class Builder {
+
+        private final String name;
+        private int generationThreads = ThreadPool.DEFAULT_POOL_SIZE;
+        private int generationPriority = Thread.NORM_PRIORITY;
+        private int prefetchThreads = Math.max(1, ThreadPool.DEFAULT_POOL_SIZE / 2);
+        private int prefetchPriority = Thread.NORM_PRIORITY - 1;
+        private int backgroundThreads = 1;
+        private int backgroundPriority = Thread.MIN_PRIORITY;
+        private boolean blocking = false;
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        public Builder generation(int threads, int priority) {
+            this.generationThreads = threads;
+            this.generationPriority = priority;
+            return this;
+        }
+
+        public Builder prefetch(int threads, int priority) {
+            this.prefetchThreads = threads;
+            this.prefetchPriority = priority;
+            return this;
+        }
+
+        public Builder background(int threads, int priority) {
+            this.backgroundThreads = threads;
+            this.backgroundPriority = priority;
+            return this;
+        }
+
+        public Builder blocking(boolean blocking) {
+            this.blocking = blocking;
+            return this;
+        }
+
+        public WorldExecutors build() {
+            return new WorldExecutors(this);
+        }
+    }
+}
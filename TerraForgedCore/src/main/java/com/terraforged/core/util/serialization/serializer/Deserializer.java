@@ -28,71 +28,63 @@ package com.terraforged.core.util.serialization.serializer;
 import com.terraforged.core.util.serialization.annotation.Serializable;
 
 import java.lang.reflect.Array;
-import java.lang.reflect.Field;
 
 public class Deserializer {
 
     public void deserialize(Reader reader, Object object) throws Throwable {
-        Class<?> type = object.getClass();
+        Schema schema = Schema.of(object.getClass());
         for (String name : reader.getKeys()) {
             if (name.charAt(0) == '#') {
                 continue;
             }
 
             Reader child = reader.getChild(name);
-            Field field = type.getField(name);
-            if (Serializer.isSerializable(field)) {
-                field.setAccessible(true);
-                fromValue(child, object, field);
+            Schema.Property property = schema.getProperty(name);
+            if (property != null) {
+                fromValue(child, object, property);
             }
         }
     }
 
-    private void fromValue(Reader reader, Object object, Field field) throws Throwable {
-        if (field.getType() == int.class) {
-            field.set(object, reader.getInt("value"));
-            return;
-        }
-        if (field.getType() == float.class) {
-            field.set(object, reader.getFloat("value"));
-            return;
-        }
-        if (field.getType() == boolean.class) {
-            field.set(object, reader.getString("value").equals("true"));
-            return;
-        }
-        if (field.getType() == String.class) {
-            field.set(object, reader.getString("value"));
-            return;
-        }
-        if (field.getType().isEnum()) {
-            String name = reader.getString("value");
-            for (Enum<?> e : field.getType().asSubclass(Enum.class).getEnumConstants()) {
-                if (e.name().equals(name)) {
-                    field.set(object, e);
-                    return;
+    private void fromValue(Reader reader, Object object, Schema.Property property) throws Throwable {
+        switch (property.kind) {
+            case INT:
+                property.set(object, reader.getInt("value"));
+                return;
+            case FLOAT:
+                property.set(object, reader.getFloat("value"));
+                return;
+            case BOOL:
+                property.set(object, reader.getString("value").equals("true"));
+                return;
+            case STRING:
+                property.set(object, reader.getString("value"));
+                return;
+            case ENUM:
+                Enum<?> option = property.getOption(reader.getString("value"));
+                if (option != null) {
+                    property.set(object, option);
                 }
-            }
-        }
-        if (field.getType().isAnnotationPresent(Serializable.class)) {
-            Reader child = reader.getChild("value");
-            Object value = field.getType().newInstance();
-            deserialize(child, value);
-            field.set(object, value);
-            return;
-        }
-        if (field.getType().isArray()) {
-            Class<?> type = field.getType().getComponentType();
-            if (type.isAnnotationPresent(Serializable.class)) {
+                return;
+            case OBJECT:
                 Reader child = reader.getChild("value");
-                Object array = Array.newInstance(type, child.getSize());
-                for (int i = 0; i < child.getSize(); i++) {
-                    Object value = type.newInstance();
-                    deserialize(child.getChild(i), value);
-                    Array.set(array, i, value);
+                Object value = Schema.of(property.type).newInstance();
+                deserialize(child, value);
+                property.set(object, value);
+                return;
+            case ARRAY:
+                Class<?> type = property.type.getComponentType();
+                if (type.isAnnotationPresent(Serializable.class)) {
+                    Reader elements = reader.getChild("value");
+                    Schema schema = Schema.of(type);
+                    Object array = Array.newInstance(type, elements.getSize());
+                    for (int i = 0; i < elements.getSize(); i++) {
+                        Object element = schema.newInstance();
+                        deserialize(elements.getChild(i), element);
+                        Array.set(array, i, element);
+                    }
+                    property.set(object, array);
                 }
-                field.set(object, array);
-            }
         }
     }
 
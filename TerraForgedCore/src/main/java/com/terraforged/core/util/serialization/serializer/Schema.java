@@ -0,0 +1,220 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2020 TerraForged
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.terraforged.core.util.serialization.serializer;
+
+import com.terraforged.core.util.serialization.annotation.Comment;
+import com.terraforged.core.util.serialization.annotation.Option;
+import com.terraforged.core.util.serialization.annotation.Range;
+import com.terraforged.core.util.serialization.annotation.Serializable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The serializable fields of a class, resolved once and shared by the Serializer & Deserializer
+ */
+public class Schema {
+
+    private static final Map<Class<?>, Schema> CACHE = new ConcurrentHashMap<>();
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType CONSTRUCTOR = MethodType.methodType(Object.class);
+
+    private final Class<?> type;
+    private final Property[] properties;
+    private final Map<String, Property> byName;
+    private final Set<String> publicFields;
+    private volatile MethodHandle constructor;
+
+    private Schema(Class<?> type) {
+        List<Property> properties = new ArrayList<>();
+        Map<String, Property> byName = new HashMap<>();
+        Set<String> publicFields = new HashSet<>();
+        for (Field field : type.getFields()) {
+            publicFields.add(field.getName());
+            if (isSerializable(field)) {
+                Property property = new Property(field, properties.size());
+                properties.add(property);
+                byName.put(property.name, property);
+            }
+        }
+        this.type = type;
+        this.properties = properties.toArray(new Property[0]);
+        this.byName = Collections.unmodifiableMap(byName);
+        this.publicFields = Collections.unmodifiableSet(publicFields);
+    }
+
+    public Property[] getProperties() {
+        return properties;
+    }
+
+    /**
+     * Returns the serializable property by name, null if the class has a public but non-serializable field of that
+     * name, or throws if it has no such public field at all (matching Class.getField)
+     */
+    public Property getProperty(String name) throws NoSuchFieldException {
+        Property property = byName.get(name);
+        if (property == null && !publicFields.contains(name)) {
+            throw new NoSuchFieldException(name);
+        }
+        return property;
+    }
+
+    public Object newInstance() throws Throwable {
+        MethodHandle handle = constructor;
+        if (handle == null) {
+            handle = LOOKUP.findConstructor(type, MethodType.methodType(void.class)).asType(CONSTRUCTOR);
+            constructor = handle;
+        }
+        return handle.invokeExact();
+    }
+
+    public static Schema of(Class<?> type) {
+        return CACHE.computeIfAbsent(type, Schema::new);
+    }
+
+    static boolean isSerializable(Field field) {
+        int modifiers = field.getModifiers();
+        return Modifier.isPublic(modifiers)
+                && !Modifier.isFinal(modifiers)
+                && !Modifier.isStatic(modifiers)
+                && !Modifier.isTransient(modifiers);
+    }
+
+    public enum Kind {
+        INT,
+        FLOAT,
+        BOOL,
+        STRING,
+        ENUM,
+        OBJECT,
+        ARRAY,
+        OTHER,
+    }
+
+    public static class Property {
+
+        public final String name;
+        public final String displayName;
+        public final int order;
+        public final Class<?> type;
+        public final Kind kind;
+        public final Range range;
+        public final Comment comment;
+        public final boolean option;
+        public final Enum<?>[] options;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        private Property(Field field, int order) {
+            this.name = field.getName();
+            this.displayName = getDisplayName(field.getName());
+            this.order = order;
+            this.type = field.getType();
+            this.kind = getKind(field.getType());
+            this.range = field.getAnnotation(Range.class);
+            this.comment = field.getAnnotation(Comment.class);
+            this.option = field.isAnnotationPresent(Option.class);
+            this.options = kind == Kind.ENUM ? field.getType().asSubclass(Enum.class).getEnumConstants() : null;
+            try {
+                field.setAccessible(true);
+                this.getter = LOOKUP.unreflectGetter(field).asType(GETTER);
+                this.setter = LOOKUP.unreflectSetter(field).asType(SETTER);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        public Object get(Object owner) throws Throwable {
+            return getter.invokeExact(owner);
+        }
+
+        public void set(Object owner, Object value) throws Throwable {
+            setter.invokeExact(owner, value);
+        }
+
+        public Enum<?> getOption(String name) {
+            for (Enum<?> e : options) {
+                if (e.name().equals(name)) {
+                    return e;
+                }
+            }
+            return null;
+        }
+
+        private static Kind getKind(Class<?> type) {
+            if (type == int.class) {
+                return Kind.INT;
+            }
+            if (type == float.class) {
+                return Kind.FLOAT;
+            }
+            if (type == boolean.class) {
+                return Kind.BOOL;
+            }
+            if (type == String.class) {
+                return Kind.STRING;
+            }
+            if (type.isEnum()) {
+                return Kind.ENUM;
+            }
+            if (type.isArray()) {
+                return Kind.ARRAY;
+            }
+            if (type.isAnnotationPresent(Serializable.class)) {
+                return Kind.OBJECT;
+            }
+            return Kind.OTHER;
+        }
+
+        private static String getDisplayName(String name) {
+            StringBuilder sb = new StringBuilder(name.length() * 2);
+            for (int i = 0; i < name.length(); i++) {
+                char c = name.charAt(i);
+                if (i == 0) {
+                    c = Character.toUpperCase(c);
+                } else if (Character.isUpperCase(c)) {
+                    sb.append(' ');
+                }
+
+                sb.append(c);
+            }
+            return sb.toString();
+        }
+    }
+}
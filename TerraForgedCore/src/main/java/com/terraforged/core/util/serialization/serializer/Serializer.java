@@ -25,13 +25,9 @@
 
 package com.terraforged.core.util.serialization.serializer;
 
-import com.terraforged.core.util.serialization.annotation.Comment;
-import com.terraforged.core.util.serialization.annotation.Range;
 import com.terraforged.core.util.serialization.annotation.Serializable;
 
 import java.lang.reflect.Array;
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 
 public class Serializer {
 
@@ -45,106 +41,95 @@ public class Serializer {
             }
             writer.endArray();
         } else if (!object.getClass().isPrimitive()) {
-            int order = 0;
             writer.beginObject();
-            for (Field field : object.getClass().getFields()) {
-                if (Serializer.isSerializable(field)) {
-                    field.setAccessible(true);
-                    write(object, field, order, writer);
-                    order++;
-                }
+            for (Schema.Property property : Schema.of(object.getClass()).getProperties()) {
+                write(object, property, writer);
             }
             writer.endObject();
         }
     }
 
-    private void write(Object object, Field field, int order, Writer writer) throws IllegalAccessException {
-        if (field.getType() == int.class) {
-            writer.name(field.getName());
-            writer.beginObject();
-            writer.name("value").value((int) field.get(object));
-            writeMeta(field, order, writer);
-            writer.endObject();
-            return;
-        }
-        if (field.getType() == float.class) {
-            writer.name(field.getName());
-            writer.beginObject();
-            writer.name("value").value((float) field.get(object));
-            writeMeta(field, order, writer);
-            writer.endObject();
-            return;
-        }
-        if (field.getType() == String.class) {
-            writer.name(field.getName());
-            writer.beginObject();
-            writer.name("value").value((String) field.get(object));
-            writeMeta(field, order, writer);
-            writer.endObject();
-            return;
-        }
-        if (field.getType() == boolean.class) {
-            writer.name(field.getName());
-            writer.beginObject();
-            writer.name("value").value("" + (field.get(object)));
-            writeMeta(field, order, writer);
-            writer.endObject();
-        }
-        if (field.getType().isEnum()) {
-            writer.name(field.getName());
-            writer.beginObject();
-            writer.name("value").value(((Enum<?>) field.get(object)).name());
-            writeMeta(field, order, writer);
-            writer.endObject();
-            return;
-        }
-        if (field.getType().isArray()) {
-            if (field.getType().getComponentType().isAnnotationPresent(Serializable.class)) {
-                writer.name(field.getName());
+    private void write(Object object, Schema.Property property, Writer writer) throws IllegalAccessException {
+        switch (property.kind) {
+            case INT:
+                writer.name(property.name);
+                writer.beginObject();
+                writer.name("value").value((int) get(property, object));
+                writeMeta(property, writer);
+                writer.endObject();
+                return;
+            case FLOAT:
+                writer.name(property.name);
+                writer.beginObject();
+                writer.name("value").value((float) get(property, object));
+                writeMeta(property, writer);
+                writer.endObject();
+                return;
+            case STRING:
+                writer.name(property.name);
+                writer.beginObject();
+                writer.name("value").value((String) get(property, object));
+                writeMeta(property, writer);
+                writer.endObject();
+                return;
+            case BOOL:
+                writer.name(property.name);
+                writer.beginObject();
+                writer.name("value").value("" + get(property, object));
+                writeMeta(property, writer);
+                writer.endObject();
+                return;
+            case ENUM:
+                writer.name(property.name);
+                writer.beginObject();
+                writer.name("value").value(((Enum<?>) get(property, object)).name());
+                writeMeta(property, writer);
+                writer.endObject();
+                return;
+            case ARRAY:
+                if (property.type.getComponentType().isAnnotationPresent(Serializable.class)) {
+                    writer.name(property.name);
+                    writer.beginObject();
+                    writer.name("value");
+                    serialize(get(property, object), writer);
+                    writeMeta(property, writer);
+                    writer.endObject();
+                }
+                return;
+            case OBJECT:
+                writer.name(property.name);
                 writer.beginObject();
                 writer.name("value");
-                serialize(field.get(object), writer);
-                writeMeta(field, order, writer);
+                serialize(get(property, object), writer);
+                writeMeta(property, writer);
                 writer.endObject();
-            }
-            return;
-        }
-        if (field.getType().isAnnotationPresent(Serializable.class)) {
-            writer.name(field.getName());
-            writer.beginObject();
-            writer.name("value");
-            serialize(field.get(object), writer);
-            writeMeta(field, order, writer);
-            writer.endObject();
         }
     }
 
-    private void writeMeta(Field field, int order, Writer writer) {
-        writer.name("#display").value(getName(field));
-        writer.name("#order").value(order);
+    private void writeMeta(Schema.Property property, Writer writer) {
+        writer.name("#display").value(property.displayName);
+        writer.name("#order").value(property.order);
 
-        Range range = field.getAnnotation(Range.class);
-        if (range != null) {
-            if (field.getType() == int.class) {
-                writer.name("#min").value((int) range.min());
-                writer.name("#max").value((int) range.max());
+        if (property.range != null) {
+            if (property.kind == Schema.Kind.INT) {
+                writer.name("#min").value((int) property.range.min());
+                writer.name("#max").value((int) property.range.max());
             } else {
-                writer.name("#min").value(range.min());
-                writer.name("#max").value(range.max());
+                writer.name("#min").value(property.range.min());
+                writer.name("#max").value(property.range.max());
             }
         }
 
-        Comment comment = field.getAnnotation(Comment.class);
-        if (comment != null) {
+        if (property.comment != null) {
             writer.name("#comment");
             writer.beginArray();
-            for (String line : comment.value()) {
+            for (String line : property.comment.value()) {
                 writer.value(line);
             }
             writer.endArray();
         }
 
-        if (field.getType() == boolean.class) {
+        if (property.kind == Schema.Kind.BOOL) {
             writer.name("#options");
             writer.beginArray();
             writer.value("true");
@@ -152,37 +137,23 @@ public class Serializer {
             writer.endArray();
         }
 
-        if (field.getType().isEnum()) {
+        if (property.kind == Schema.Kind.ENUM) {
             writer.name("#options");
             writer.beginArray();
-            for (Enum<?> o : field.getType().asSubclass(Enum.class).getEnumConstants()) {
+            for (Enum<?> o : property.options) {
                 writer.value(o.name());
             }
             writer.endArray();
         }
     }
 
-    private static String getName(Field field) {
-        String name = field.getName();
-        StringBuilder sb = new StringBuilder(name.length() * 2);
-        for (int i = 0; i < name.length(); i++) {
-            char c = name.charAt(i);
-            if (i == 0) {
-                c = Character.toUpperCase(c);
-            } else if (Character.isUpperCase(c)) {
-                sb.append(' ');
-            }
-
-            sb.append(c);
+    private static Object get(Schema.Property property, Object object) throws IllegalAccessException {
+        try {
+            return property.get(object);
+        } catch (RuntimeException | Error | IllegalAccessException e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
         }
-        return sb.toString();
-    }
-
-    protected static boolean isSerializable(Field field) {
-        int modifiers = field.getModifiers();
-        return Modifier.isPublic(modifiers)
-                && !Modifier.isFinal(modifiers)
-                && !Modifier.isStatic(modifiers)
-                && !Modifier.isTransient(modifiers);
     }
 }
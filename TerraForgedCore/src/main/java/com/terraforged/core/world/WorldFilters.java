@@ -26,10 +26,12 @@
 package com.terraforged.core.world;
 
 import com.terraforged.core.filter.Erosion;
+import com.terraforged.core.filter.ErosionTile;
 import com.terraforged.core.filter.Filterable;
 import com.terraforged.core.filter.Smoothing;
 import com.terraforged.core.filter.Steepness;
 import com.terraforged.core.region.Region;
+import com.terraforged.core.region.Size;
 import com.terraforged.core.settings.FilterSettings;
 import com.terraforged.core.world.terrain.Terrain;
 
@@ -49,9 +51,54 @@ public class WorldFilters {
     }
 
     public void apply(Region region) {
+        apply(region, settings.erosion.iterations);
+    }
+
+    /**
+     * Applies the filters to a region of any size, eroding it at the droplet density of a region of the given size
+     */
+    public void apply(Region region, Size density) {
+        Size size = region.getBlockSize();
+        float scale = area(size) / area(density);
+        apply(region, Math.round(settings.erosion.iterations * scale));
+    }
+
+    private void apply(Region region, int erosionIterations) {
         Filterable<Terrain> map = region.filterable();
-        erosion.apply(map, region.getRegionX(), region.getRegionZ(), settings.erosion.iterations);
+        erosion.apply(map, region.getRegionX(), region.getRegionZ(), erosionIterations);
         smoothing.apply(map, region.getRegionX(), region.getRegionZ(), settings.smoothing.iterations);
         steepness.apply(map, region.getRegionX(), region.getRegionZ(), 1);
     }
+
+    /**
+     * Erodes the unfiltered region's interior and returns the changes, which may spill into its border
+     */
+    public ErosionTile erode(Region region) {
+        Size size = region.getBlockSize();
+        // keep the same droplet density as eroding the whole bordered region
+        float density = settings.erosion.iterations / area(size);
+        int iterations = Math.round(density * size.size * size.size);
+        return erosion.erode(region.filterable(), region.getRegionX(), region.getRegionZ(), iterations);
+    }
+
+    /**
+     * Applies the erosion of the region and its eight neighbours, then the remaining filters
+     *
+     * @param tiles the erosion tiles of the 3x3 regions centred on this one, ordered by z then x
+     */
+    public void apply(Region region, ErosionTile[] tiles) {
+        Filterable<Terrain> map = region.filterable();
+        int size = region.getBlockSize().size;
+        for (int dz = -1, i = 0; dz <= 1; dz++) {
+            for (int dx = -1; dx <= 1; dx++, i++) {
+                tiles[i].apply(map, dx * size, dz * size);
+            }
+        }
+        smoothing.apply(map, region.getRegionX(), region.getRegionZ(), settings.smoothing.iterations);
+        steepness.apply(map, region.getRegionX(), region.getRegionZ(), 1);
+    }
+
+    private static float area(Size size) {
+        return (size.total - 1) * (size.total - 1);
+    }
 }
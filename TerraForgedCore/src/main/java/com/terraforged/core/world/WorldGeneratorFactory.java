@@ -33,21 +33,23 @@ import java.util.function.Supplier;
 
 public class WorldGeneratorFactory implements Supplier<WorldGenerator> {
 
-    private final GeneratorContext context;
-
     private final Heightmap heightmap;
     private final WorldDecorators decorators;
+    private final WorldFilters filters;
+    private final WorldGenerator generator;
 
     public WorldGeneratorFactory(GeneratorContext context) {
-        this.context = context;
         this.heightmap = new WorldHeightmap(context);
         this.decorators = new WorldDecorators(context);
+        this.filters = new WorldFilters(context);
+        this.generator = new WorldGenerator(heightmap, decorators, filters);
     }
 
     public WorldGeneratorFactory(GeneratorContext context, Heightmap heightmap) {
-        this.context = context;
         this.heightmap = heightmap;
         this.decorators = new WorldDecorators(context);
+        this.filters = new WorldFilters(context);
+        this.generator = new WorldGenerator(heightmap, decorators, filters);
     }
 
     public Heightmap getHeightmap() {
@@ -63,11 +65,14 @@ public class WorldGeneratorFactory implements Supplier<WorldGenerator> {
     }
 
     public WorldFilters getFilters() {
-        return new WorldFilters(context);
+        return filters;
     }
 
+    /**
+     * Returns the world's generator. Every component is re-entrant so the one instance is shared by all threads
+     */
     @Override
     public WorldGenerator get() {
-        return new WorldGenerator(heightmap, decorators, getFilters());
+        return generator;
     }
 }
@@ -54,6 +54,10 @@ public class Geology<T> {
         return getStrata(noise);
     }
 
+    public float getSelectorValue(float x, float z) {
+        return selector.getValue(x, z);
+    }
+
     public Strata<T> getStrata(float value) {
         int index = (int) (value * backing.size());
         index = Math.min(backing.size() - 1, index);
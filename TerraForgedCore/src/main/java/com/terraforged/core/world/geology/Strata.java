@@ -76,6 +76,51 @@ public class Strata<T> {
         return true;
     }
 
+    /**
+     * Visits the strata downwards from y as spans of the same material, using the layer depths
+     * provided in the depths array (see {@link #getDepths}) rather than sampling them.
+     */
+    public void downwards(final int y, float[] depths, Stratum.Filler<T> filler) {
+        float sum = 0F;
+        for (int i = 0; i < strata.size(); i++) {
+            sum += depths[i];
+        }
+
+        int py = y;
+        T last = null;
+        for (int i = 0; i < strata.size(); i++) {
+            float depth = depths[i] / sum;
+            int height = NoiseUtil.round(depth * y);
+            T value = strata.get(i).getValue();
+            last = value;
+            if (height <= 0) {
+                continue;
+            }
+            // fills py (inclusive) down to py - height (exclusive), stopping at 0 (inclusive)
+            filler.fill(py, Math.max(-1, py - height), value);
+            py -= height;
+            if (py < 0) {
+                return;
+            }
+        }
+        if (last != null && py > 0) {
+            filler.fill(py, 0, last);
+        }
+    }
+
+    public int size() {
+        return strata.size();
+    }
+
+    /**
+     * Samples the depth of each layer at the given position into the depths array
+     */
+    public void getDepths(float x, float z, float[] depths) {
+        for (int i = 0; i < strata.size(); i++) {
+            depths[i] = strata.get(i).getDepth(x, z);
+        }
+    }
+
     public boolean upwards(int x, int y, int z, Stratum.Visitor<T> visitor) {
         DepthBuffer depthBuffer = new DepthBuffer(strata, x, z);
         int py = 0;
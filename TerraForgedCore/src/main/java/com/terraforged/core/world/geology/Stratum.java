@@ -62,4 +62,12 @@ public class Stratum<T> {
 
         boolean visit(int y, T value);
     }
+
+    public interface Filler<T> {
+
+        /**
+         * Fill from the 'from' y (inclusive) down to the 'to' y (exclusive)
+         */
+        void fill(int from, int to, T value);
+    }
 }
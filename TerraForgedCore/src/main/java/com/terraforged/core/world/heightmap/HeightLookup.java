@@ -0,0 +1,74 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2020 TerraForged
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.terraforged.core.world.heightmap;
+
+import com.terraforged.core.cell.Cell;
+import com.terraforged.core.world.terrain.Terrain;
+import me.dags.noise.util.NoiseUtil;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Evaluates the height of single columns straight from the heightmap, without generating the region they belong to.
+ *
+ * The result excludes the climate, decorators and filters, so it is an approximation of the final terrain height,
+ * but it's cheap and it doesn't depend on which regions happen to be loaded. Recently queried columns are kept in a
+ * small LRU cache since structure placement tends to check the same positions repeatedly.
+ */
+public class HeightLookup {
+
+    private final Heightmap heightmap;
+    private final Map<Long, Float> cache;
+
+    public HeightLookup(Heightmap heightmap, int capacity) {
+        this.heightmap = heightmap;
+        this.cache = new LinkedHashMap<Long, Float>(capacity, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Float> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public float getValue(int x, int z) {
+        long id = NoiseUtil.seed(x, z);
+        synchronized (cache) {
+            Float value = cache.get(id);
+            if (value != null) {
+                return value;
+            }
+        }
+
+        Cell<Terrain> cell = new Cell<>();
+        heightmap.applyHeight(cell, x, z);
+
+        synchronized (cache) {
+            cache.put(id, cell.value);
+        }
+        return cell.value;
+    }
+}
@@ -39,6 +39,13 @@ public interface Heightmap extends Populator, Extent {
 
     void visit(Cell<Terrain> cell, float x, float z);
 
+    /**
+     * Populates at least the cell's height, skipping any work that only contributes to its other properties
+     */
+    default void applyHeight(Cell<Terrain> cell, float x, float z) {
+        apply(cell, x, z);
+    }
+
     @Override
     default void visit(int minX, int minZ, int maxX, int maxZ, Cell.Visitor<Terrain> visitor) {
         int chunkSize = Size.chunkToBlock(1);
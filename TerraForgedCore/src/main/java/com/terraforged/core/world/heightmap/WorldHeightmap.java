@@ -196,6 +196,15 @@ public class WorldHeightmap implements Heightmap {
         }
     }
 
+    @Override
+    public void applyHeight(Cell<Terrain> cell, float x, float z) {
+        cell.tag = terrain.steppe;
+        continentModule.apply(cell, x, z);
+        regionModule.apply(cell, x, z);
+        root.apply(cell, x, z);
+        riverManager.apply(cell, x, z);
+    }
+
     @Override
     public void tag(Cell<Terrain> cell, float x, float z) {
         continentModule.apply(cell, x, z);
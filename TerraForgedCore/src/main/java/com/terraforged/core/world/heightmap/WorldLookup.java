@@ -2,7 +2,6 @@ package com.terraforged.core.world.heightmap;
 
 import com.terraforged.core.cell.Cell;
 import com.terraforged.core.world.GeneratorContext;
-import com.terraforged.core.world.WorldDecorators;
 import com.terraforged.core.world.WorldGeneratorFactory;
 import com.terraforged.core.world.decorator.Decorator;
 import com.terraforged.core.world.terrain.Terrain;
@@ -12,24 +11,57 @@ public class WorldLookup {
     private final float waterLevel;
     private final float beachLevel;
     private final Heightmap heightmap;
-    private final WorldDecorators decorators;
+    private final Decorator[] decorators;
     private final GeneratorContext context;
+    private final ThreadLocal<Cell<Terrain>> scratch = ThreadLocal.withInitial(Cell::new);
 
     public WorldLookup(WorldGeneratorFactory factory, GeneratorContext context) {
         this.context = context;
         this.heightmap = factory.getHeightmap();
-        this.decorators = factory.getDecorators();
+        // an array so that iterating them per lookup doesn't allocate
+        this.decorators = factory.getDecorators().getDecorators().toArray(new Decorator[0]);
         this.waterLevel = context.levels.water;
         this.beachLevel = context.levels.water(5);
     }
 
+    /**
+     * Returns a new cell for the position. Prefer lookup or applyCell where the cell does not need to be retained
+     */
     public Cell<Terrain> getCell(int x, int z) {
         Cell<Terrain> cell = new Cell<>();
         applyCell(cell, x, z);
         return cell;
     }
 
+    /**
+     * Returns the calling thread's scratch cell populated for the position. The cell is only valid until that thread's
+     * next lookup or visit, so callers must copy anything they want to keep
+     */
+    public Cell<Terrain> lookup(int x, int z) {
+        Cell<Terrain> cell = scratch.get();
+        applyCell(cell, x, z);
+        return cell;
+    }
+
+    /**
+     * Visits each position in the rectangle [minX, maxX) x [minZ, maxZ) with the calling thread's scratch cell. The
+     * visitor receives positions relative to minX/minZ
+     */
+    public void visit(int minX, int minZ, int maxX, int maxZ, Cell.Visitor<Terrain> visitor) {
+        Cell<Terrain> cell = scratch.get();
+        for (int z = minZ; z < maxZ; z++) {
+            for (int x = minX; x < maxX; x++) {
+                applyCell(cell, x, z);
+                visitor.visit(cell, x - minX, z - minZ);
+            }
+        }
+    }
+
+    /**
+     * Populates the given cell for the position, overwriting whatever it previously held
+     */
     public void applyCell(Cell<Terrain> cell, int x, int z) {
+        cell.reset();
         heightmap.apply(cell, x, z);
 
         // approximation - actual beaches depend on steepness but that's too expensive to calculate
@@ -37,7 +69,7 @@ public class WorldLookup {
             cell.tag = context.terrain.beach;
         }
 
-        for (Decorator decorator : decorators.getDecorators()) {
+        for (Decorator decorator : decorators) {
             if (decorator.apply(cell, x, z)) {
                 break;
             }
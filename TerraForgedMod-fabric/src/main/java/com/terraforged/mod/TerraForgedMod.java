@@ -27,8 +27,10 @@ package com.terraforged.mod;
 
 import com.terraforged.api.material.MaterialTags;
 import com.terraforged.core.util.concurrent.ThreadPool;
+import com.terraforged.core.util.concurrent.WorldExecutors;
 import com.terraforged.feature.FeatureManager;
 import com.terraforged.mod.biome.tag.BiomeTagManager;
+import com.terraforged.mod.chunk.TerraChunkGenerator;
 import com.terraforged.mod.command.TerraCommand;
 import com.terraforged.mod.data.DataGen;
 import com.terraforged.mod.feature.tree.SaplingManager;
@@ -36,10 +38,17 @@ import com.terraforged.mod.settings.SettingsHelper;
 import com.terraforged.mod.util.Environment;
 import net.fabricmc.api.ModInitializer;
 import net.fabricmc.fabric.api.event.server.ServerStopCallback;
+import net.fabricmc.fabric.api.event.world.WorldTickCallback;
 import net.fabricmc.fabric.api.registry.CommandRegistry;
 import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
 import net.minecraft.resource.ResourceType;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.world.World;
+import net.minecraft.world.gen.chunk.ChunkGenerator;
+
+import java.util.List;
 
 /**
  * Author <dags@dags.me>
@@ -50,6 +59,7 @@ public class TerraForgedMod implements ModInitializer {
     public void onInitialize() {
         Log.info("Common setup");
         ServerStopCallback.EVENT.register(TerraForgedMod::onShutdown);
+        WorldTickCallback.EVENT.register(TerraForgedMod::onWorldTick);
         MaterialTags.init();
         //        TerraWorld.init();
         SaplingManager.init();
@@ -67,7 +77,36 @@ public class TerraForgedMod implements ModInitializer {
         SettingsHelper.setDedicatedServer();
     }
 
+    // feeds player movement to the generator's region prefetcher twice a second
+    private static void onWorldTick(World world) {
+        if (world.isClient || world.getTime() % 10 != 0) {
+            return;
+        }
+
+        ServerWorld serverWorld = (ServerWorld) world;
+        ChunkGenerator<?> generator = serverWorld.getChunkManager().getChunkGenerator();
+        if (!(generator instanceof TerraChunkGenerator)) {
+            return;
+        }
+
+        List<ServerPlayerEntity> players = serverWorld.getPlayers();
+        int[] ids = new int[players.size()];
+        float[] chunkX = new float[players.size()];
+        float[] chunkZ = new float[players.size()];
+        for (int i = 0; i < players.size(); i++) {
+            ServerPlayerEntity player = players.get(i);
+            ids[i] = player.getEntityId();
+            chunkX[i] = (float) player.getX() / 16F;
+            chunkZ[i] = (float) player.getZ() / 16F;
+        }
+
+        int viewDistance = serverWorld.getServer().getPlayerManager().getViewDistance();
+        long time = System.currentTimeMillis();
+        ((TerraChunkGenerator) generator).getRegionPrefetcher().update(time, ids, chunkX, chunkZ, viewDistance);
+    }
+
     private static void onShutdown(MinecraftServer server) {
+        WorldExecutors.shutdownAll();
         ThreadPool.shutdownCurrent();
     }
 }
@@ -53,7 +53,7 @@
 //import java.util.Set;
 //
 //public class TerraWorld extends LevelGeneratorType {
-//    public static final int VERSION = 1;
+//    public static final int VERSION = 2;
 //
 //    private static final Set<WorldType> types = new HashSet<>();
 //    public static final TerraWorld TERRA = new TerraWorld("terraforged", TerraChunkGenerator::new);
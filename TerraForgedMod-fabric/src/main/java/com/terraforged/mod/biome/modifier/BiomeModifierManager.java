@@ -25,6 +25,7 @@
 
 package com.terraforged.mod.biome.modifier;
 
+import com.terraforged.api.biome.BiomeTable;
 import com.terraforged.api.biome.modifier.BiomeModifier;
 import com.terraforged.api.biome.modifier.ModifierManager;
 import com.terraforged.core.cell.Cell;
@@ -36,6 +37,7 @@ import com.terraforged.mod.chunk.TerraContext;
 import net.minecraft.world.biome.Biome;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -43,6 +45,7 @@ public class BiomeModifierManager implements BiomeModifier, ModifierManager {
 
     private final DesertBiomes desertBiomes;
     private final List<BiomeModifier> biomeModifiers;
+    private volatile Chains chains = null;
 
     public BiomeModifierManager(TerraContext context, BiomeMap biomes) {
         desertBiomes = new DesertBiomes(context.materials, biomes.getAllBiomes(BiomeType.DESERT));
@@ -59,9 +62,22 @@ public class BiomeModifierManager implements BiomeModifier, ModifierManager {
     }
 
     @Override
-    public void register(BiomeModifier modifier) {
+    public synchronized void register(BiomeModifier modifier) {
         biomeModifiers.add(modifier);
         Collections.sort(biomeModifiers);
+        if (chains != null) {
+            freeze();
+        }
+    }
+
+    /**
+     * Pre-computes, for every registered biome, the indices of the modifiers whose test() accepts it
+     */
+    public synchronized BiomeModifierManager freeze() {
+        BiomeModifier[] modifiers = biomeModifiers.toArray(new BiomeModifier[0]);
+        BiomeTable<int[]> table = BiomeTable.of(biome -> compile(modifiers, biome));
+        chains = new Chains(modifiers, table);
+        return this;
     }
 
     public DesertBiomes getDesertBiomes() {
@@ -80,6 +96,14 @@ public class BiomeModifierManager implements BiomeModifier, ModifierManager {
 
     @Override
     public Biome modify(Biome biome, Cell<Terrain> cell, int x, int z) {
+        Chains chains = this.chains;
+        if (chains != null) {
+            return chains.modify(biome, cell, x, z);
+        }
+        return modifyUncompiled(biome, cell, x, z);
+    }
+
+    private synchronized Biome modifyUncompiled(Biome biome, Cell<Terrain> cell, int x, int z) {
         for (BiomeModifier modifier : biomeModifiers) {
             if (modifier.test(biome)) {
                 biome = modifier.modify(biome, cell, x, z);
@@ -87,4 +111,56 @@ public class BiomeModifierManager implements BiomeModifier, ModifierManager {
         }
         return biome;
     }
+
+    private static int[] compile(BiomeModifier[] modifiers, Biome biome) {
+        int size = 0;
+        int[] chain = new int[modifiers.length];
+        for (int i = 0; i < modifiers.length; i++) {
+            if (modifiers[i].test(biome)) {
+                chain[size++] = i;
+            }
+        }
+        return Arrays.copyOf(chain, size);
+    }
+
+    private static class Chains {
+
+        private final BiomeModifier[] modifiers;
+        private final BiomeTable<int[]> table;
+
+        private Chains(BiomeModifier[] modifiers, BiomeTable<int[]> table) {
+            this.modifiers = modifiers;
+            this.table = table;
+        }
+
+        private Biome modify(Biome biome, Cell<Terrain> cell, int x, int z) {
+            int next = 0;
+            int[] chain = getChain(biome);
+            for (int i = 0; i < chain.length; i++) {
+                int index = chain[i];
+                if (index < next) {
+                    continue;
+                }
+
+                next = index + 1;
+                Biome result = modifiers[index].modify(biome, cell, x, z);
+
+                // later modifiers are tested against the modified biome, so switch to its chain
+                if (result != biome) {
+                    biome = result;
+                    chain = getChain(biome);
+                    i = -1;
+                }
+            }
+            return biome;
+        }
+
+        private int[] getChain(Biome biome) {
+            int[] chain = table.get(biome);
+            if (chain == null) {
+                return compile(modifiers, biome);
+            }
+            return chain;
+        }
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2020 TerraForged
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.terraforged.mod.biome.provider;
+
+import net.minecraft.world.biome.Biome;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded cache of biomes at quart (4x4 block) resolution. Biomes are stored in tiles of 4x4 quarts, ie one chunk,
+ * which are filled in bulk on a miss.
+ *
+ * Tiles are held in a fixed size table indexed by their position, so the cache never grows and a new tile simply
+ * replaces whichever tile occupied its slot. Tiles are immutable once published so reads don't need to lock.
+ */
+public class BiomeCache {
+
+    private final int mask;
+    private final Loader loader;
+    private final AtomicReferenceArray<Tile> tiles;
+
+    /**
+     * @param size the number of tiles to hold, rounded up to a power of two
+     */
+    public BiomeCache(int size, Loader loader) {
+        int capacity = Integer.highestOneBit(Math.max(1, size - 1)) << 1;
+        this.mask = capacity - 1;
+        this.loader = loader;
+        this.tiles = new AtomicReferenceArray<>(capacity);
+    }
+
+    public Biome getBiome(int quartX, int quartZ) {
+        int tileX = quartX >> 2;
+        int tileZ = quartZ >> 2;
+        int index = indexOf(tileX, tileZ);
+
+        Tile tile = tiles.get(index);
+        if (tile == null || tile.x != tileX || tile.z != tileZ) {
+            Biome[] biomes = new Biome[16];
+            loader.load(tileX, tileZ, biomes);
+            tile = new Tile(tileX, tileZ, biomes);
+            tiles.set(index, tile);
+        }
+
+        return tile.biomes[((quartZ & 3) << 2) + (quartX & 3)];
+    }
+
+    private int indexOf(int x, int z) {
+        int hash = x * 0x9E3779B1 ^ z * 0x85EBCA6B;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    public interface Loader {
+
+        /**
+         * Fills the 4x4 quarts of the tile, indexed by (quartZ * 4) + quartX relative to the tile's corner
+         */
+        void load(int tileX, int tileZ, Biome[] biomes);
+    }
+
+    private static class Tile {
+
+        private final int x;
+        private final int z;
+        private final Biome[] biomes;
+
+        private Tile(int x, int z, Biome[] biomes) {
+            this.x = x;
+            this.z = z;
+            this.biomes = biomes;
+        }
+    }
+}
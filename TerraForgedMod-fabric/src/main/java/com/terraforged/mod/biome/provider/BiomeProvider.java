@@ -28,7 +28,6 @@ package com.terraforged.mod.biome.provider;
 import com.google.common.collect.Sets;
 import com.terraforged.core.cell.Cell;
 import com.terraforged.core.region.chunk.ChunkReader;
-import com.terraforged.core.world.decorator.Decorator;
 import com.terraforged.core.world.heightmap.WorldLookup;
 import com.terraforged.core.world.terrain.Terrain;
 import com.terraforged.mod.biome.map.BiomeMap;
@@ -41,38 +40,53 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.biome.Biome;
 import net.minecraft.world.gen.feature.StructureFeature;
 
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 
 public class BiomeProvider extends AbstractBiomeProvider {
 
+    // tiles of 4x4 quarts (ie chunks) held by the biome cache
+    private static final int BIOME_CACHE_SIZE = 4096;
+
     private final BiomeMap biomeMap;
     private final TerraContext context;
     private final WorldLookup worldLookup;
     private final BiomeModifierManager modifierManager;
-    private final Map<Biome, List<Decorator>> decorators = new HashMap<>();
+    private final BiomeCache biomeCache = new BiomeCache(BIOME_CACHE_SIZE, this::loadBiomes);
 
     public BiomeProvider(TerraContext context) {
         this.context = context;
         this.biomeMap = BiomeHelper.getDefaultBiomeMap();
         this.worldLookup = new WorldLookup(context.factory, context);
-        this.modifierManager = SetupHooks.setup(new BiomeModifierManager(context, biomeMap), context.copy());
+        this.modifierManager = SetupHooks.setup(new BiomeModifierManager(context, biomeMap), context.copy()).freeze();
     }
 
+    /**
+     * Returns the calling thread's scratch cell for the position, valid until that thread's next lookup
+     */
     public Cell<Terrain> lookupPos(int x, int z) {
-        return worldLookup.getCell(x, z);
+        return worldLookup.lookup(x, z);
     }
 
     @Override
     public Biome getBiomeForNoiseGen(int x, int y, int z) {
-        x = (x << 2);
-        z = (z << 2);
-        return getBiome(lookupPos(x, z), x, z);
+        return biomeCache.getBiome(x, z);
+    }
+
+    // fills the quarts of a chunk from the world lookup. always the lookup (never a generated region, whose cells have
+    // been eroded) so that a quart's biome doesn't depend on which regions happen to be loaded
+    private void loadBiomes(int chunkX, int chunkZ, Biome[] biomes) {
+        int startX = chunkX << 4;
+        int startZ = chunkZ << 4;
+        for (int dz = 0; dz < 4; dz++) {
+            for (int dx = 0; dx < 4; dx++) {
+                int x = startX + (dx << 2);
+                int z = startZ + (dz << 2);
+                biomes[(dz << 2) + dx] = getBiome(lookupPos(x, z), x, z);
+            }
+        }
     }
 
     @Override
@@ -136,10 +150,6 @@ public class BiomeProvider extends AbstractBiomeProvider {
         return modifierManager;
     }
 
-    public List<Decorator> getDecorators(Biome biome) {
-        return decorators.getOrDefault(biome, Collections.emptyList());
-    }
-
     public TerraBiomeArray createBiomeContainer(ChunkReader chunkReader) {
         TerraBiomeArray.Builder builder = TerraBiomeArray.builder();
         chunkReader.iterate((cell, dx, dz) -> {
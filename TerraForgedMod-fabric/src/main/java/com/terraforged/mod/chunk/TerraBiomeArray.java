@@ -27,9 +27,15 @@ package com.terraforged.mod.chunk;
 
 import com.terraforged.core.cell.Cell;
 import com.terraforged.core.region.chunk.ChunkReader;
+import com.terraforged.core.region.chunk.ChunkSnapshot;
 import com.terraforged.core.util.PosIterator;
 import com.terraforged.core.world.terrain.Terrain;
+import com.terraforged.core.world.terrain.Terrains;
+import com.terraforged.mod.util.nbt.NBTHelper;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.registry.Registry;
 import net.minecraft.world.biome.Biome;
 import net.minecraft.world.biome.source.BiomeArray;
 
@@ -48,10 +54,14 @@ public class TerraBiomeArray extends BiomeArray {
     private final ChunkReader chunkReader;
 
     public TerraBiomeArray(Builder builder, ChunkReader chunkReader) {
-        super(builder.biomes);
+        this(builder.biomes, builder.surfaceBiomeCache, chunkReader);
+    }
+
+    private TerraBiomeArray(Biome[] biomes, Biome[] surface, ChunkReader chunkReader) {
+        super(biomes);
         this.chunkReader = chunkReader;
-        this.biomes = builder.biomes;
-        this.surface = builder.surfaceBiomeCache;
+        this.biomes = biomes;
+        this.surface = surface;
     }
 
     public Biome getBiome(int x, int z) {
@@ -82,6 +92,57 @@ public class TerraBiomeArray extends BiomeArray {
         return chunkReader;
     }
 
+    // copies the chunk's cells out of the parent Region so that it doesn't need to be held in memory
+    public TerraBiomeArray compact() {
+        if (chunkReader instanceof ChunkSnapshot) {
+            return this;
+        }
+        return new TerraBiomeArray(biomes, surface, ChunkSnapshot.of(chunkReader));
+    }
+
+    public CompoundTag serialize() {
+        int[] ids = new int[surface.length];
+        for (int i = 0; i < surface.length; i++) {
+            ids[i] = Registry.BIOME.getRawId(surface[i]);
+        }
+        CompoundTag tag = new CompoundTag();
+        tag.putIntArray("biomes", ids);
+        tag.put("cells", NBTHelper.writeSnapshot(ChunkSnapshot.of(chunkReader)));
+        return tag;
+    }
+
+    // returns null if the data is incomplete or refers to unknown biomes
+    public static TerraBiomeArray deserialize(CompoundTag tag, ChunkPos pos, Terrains terrains) {
+        int[] ids = tag.getIntArray("biomes");
+        if (ids.length != 256) {
+            return null;
+        }
+
+        Builder builder = builder();
+        for (int i = 0; i < ids.length; i++) {
+            Biome biome = Registry.BIOME.get(ids[i]);
+            if (biome == null) {
+                return null;
+            }
+            builder.surfaceBiomeCache[i] = biome;
+        }
+
+        ChunkSnapshot snapshot = NBTHelper.readSnapshot(tag.getCompound("cells"), pos.x, pos.z, name -> {
+            for (Terrain terrain : terrains.index) {
+                if (terrain.getName().equals(name)) {
+                    return terrain;
+                }
+            }
+            return Terrain.NONE;
+        });
+
+        if (snapshot == null) {
+            return null;
+        }
+
+        return builder.build(snapshot);
+    }
+
     private static int indexOf(int x, int z) {
         x &= 15;
         z &= 15;
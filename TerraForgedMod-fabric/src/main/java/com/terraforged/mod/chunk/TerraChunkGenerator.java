@@ -26,18 +26,19 @@
 package com.terraforged.mod.chunk;
 
 import com.terraforged.api.chunk.column.ColumnDecorator;
+import com.terraforged.api.chunk.column.ColumnWriter;
 import com.terraforged.api.chunk.column.DecoratorContext;
 import com.terraforged.api.chunk.surface.ChunkSurfaceBuffer;
 import com.terraforged.api.chunk.surface.SurfaceContext;
 import com.terraforged.api.chunk.surface.SurfaceManager;
 import com.terraforged.api.material.layer.LayerManager;
-import com.terraforged.core.cell.Cell;
 import com.terraforged.core.region.RegionCache;
+import com.terraforged.core.region.RegionFocus;
 import com.terraforged.core.region.RegionGenerator;
-import com.terraforged.core.region.Size;
+import com.terraforged.core.region.RegionPrefetcher;
 import com.terraforged.core.region.chunk.ChunkReader;
 import com.terraforged.core.util.concurrent.ThreadPool;
-import com.terraforged.core.world.decorator.Decorator;
+import com.terraforged.core.world.heightmap.HeightLookup;
 import com.terraforged.feature.FeatureManager;
 import com.terraforged.feature.matcher.dynamic.DynamicMatcher;
 import com.terraforged.feature.matcher.feature.FeatureMatcher;
@@ -51,6 +52,8 @@ import com.terraforged.mod.Log;
 import com.terraforged.mod.biome.provider.BiomeProvider;
 import com.terraforged.mod.chunk.fix.ChunkCarverFix;
 import com.terraforged.mod.chunk.fix.RegionFix;
+import com.terraforged.mod.chunk.profiler.Profiler;
+import com.terraforged.mod.chunk.profiler.Timings;
 import com.terraforged.mod.decorator.ChunkPopulator;
 import com.terraforged.mod.decorator.base.BedrockDecorator;
 import com.terraforged.mod.decorator.base.CoastDecorator;
@@ -65,9 +68,11 @@ import com.terraforged.mod.feature.predicate.TreeLine;
 import com.terraforged.mod.material.Materials;
 import com.terraforged.mod.material.geology.GeoManager;
 import com.terraforged.mod.util.setup.SetupHooks;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.structure.StructureManager;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.registry.Registry;
 import net.minecraft.world.ChunkRegion;
 import net.minecraft.world.Heightmap;
 import net.minecraft.world.IWorld;
@@ -76,6 +81,7 @@ import net.minecraft.world.biome.Biomes;
 import net.minecraft.world.biome.source.BiomeAccess;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.chunk.ProtoChunk;
+import net.minecraft.world.chunk.ReadOnlyChunk;
 import net.minecraft.world.gen.GenerationStep;
 import net.minecraft.world.gen.chunk.ChunkGenerator;
 import net.minecraft.world.gen.chunk.ChunkGeneratorConfig;
@@ -87,6 +93,12 @@ import java.util.List;
 
 public class TerraChunkGenerator extends ObfHelperChunkGenerator<ChunkGeneratorConfig> implements ChunkProcessor {
 
+    private static final String CHUNK_DATA = "TerraForged";
+    // regions are 2^REGION_FACTOR chunks wide
+    protected static final int REGION_FACTOR = 3;
+    private static final float PREFETCH_SECONDS = 5F;
+    private static final int HEIGHT_CACHE_SIZE = 1024;
+
     private final TerraContext context;
     private final BiomeProvider biomeProvider;
     private final TerrainHelper terrainHelper;
@@ -97,19 +109,27 @@ public class TerraChunkGenerator extends ObfHelperChunkGenerator<ChunkGeneratorC
     private final List<ColumnDecorator> baseDecorators;
     private final List<ColumnDecorator> postProcessors;
 
+    private final RegionFocus regionFocus = new RegionFocus();
     private final RegionCache regionCache;
+    private final RegionPrefetcher regionPrefetcher;
+    private final HeightLookup heightLookup;
+    private final Profiler profiler = new Profiler();
 
     public TerraChunkGenerator(TerraContext context, BiomeProvider biomeProvider, ChunkGeneratorConfig settings) {
         super(context.world, biomeProvider, settings);
         this.context = context;
         this.biomeProvider = biomeProvider;
-        this.surfaceManager = SetupHooks.setup(createSurfaceManager(), context.copy());
+        this.surfaceManager = SetupHooks.setup(createSurfaceManager(), context.copy()).freeze();
         this.geologyManager = SetupHooks.setup(createGeologyManager(context), context.copy());
         this.baseDecorators = createBaseDecorators(context);
         this.postProcessors = createFeatureDecorators(context);
         this.terrainHelper = new TerrainHelper((int) world.getSeed(), 0.8F);
         this.featureManager = createFeatureManager(context);
         this.regionCache = createRegionCache(context);
+        this.regionPrefetcher = new RegionPrefetcher(regionCache, regionFocus, 1 << REGION_FACTOR)
+                .lookahead(PREFETCH_SECONDS)
+                .budget(ThreadPool.DEFAULT_POOL_SIZE);
+        this.heightLookup = new HeightLookup(context.factory.getHeightmap(), HEIGHT_CACHE_SIZE);
         SetupHooks.setup(getLayerManager(), context.copy());
         SetupHooks.setup(baseDecorators, postProcessors, context.copy());
     }
@@ -121,28 +141,19 @@ public class TerraChunkGenerator extends ObfHelperChunkGenerator<ChunkGeneratorC
 
     @Override
     public final void populateBiomes(Chunk chunk) {
+        long start = profiler.start();
         ChunkPos pos = chunk.getPos();
         ChunkReader reader = getChunkReader(pos.x, pos.z);
         TerraBiomeArray container = getBiomeSource().createBiomeContainer(reader);
-        ((ProtoChunk) chunk).setBiomes(container);
-        // apply chunk-local heightmap modifications
-        preProcess(pos, reader, container);
-    }
-
-    @Override
-    public final void preProcess(ChunkPos pos, ChunkReader chunk, TerraBiomeArray container) {
-        chunk.iterate((cell, dx, dz) -> {
-            Biome biome = container.getBiome(dx, dz);
-            for (Decorator decorator : getBiomeSource().getDecorators(biome)) {
-                if (decorator.apply(cell, pos.getStartX() + dx, pos.getStartZ() + dz)) {
-                    return;
-                }
-            }
-        });
+        // snapshot the modified cells so the region isn't pinned by the chunk
+        ((ProtoChunk) chunk).setBiomes(container.compact());
+        profiler.end("chunk/populateBiomes", start);
     }
 
     @Override
     public final void populateNoise(IWorld world, Chunk chunk) {
+        long start = profiler.start();
+        ColumnWriter writer = new ColumnWriter(chunk);
         DecoratorContext context = new DecoratorContext(chunk, getContext().levels, getContext().terrain, getContext().factory.getClimate());
         TerraBiomeArray container = getBiomeContainer(chunk);
         container.getChunkReader().iterate((cell, dx, dz) -> {
@@ -151,13 +162,19 @@ public class TerraChunkGenerator extends ObfHelperChunkGenerator<ChunkGeneratorC
             int py = (int) (cell.value * getMaxY());
             context.cell = cell;
             context.biome = container.getBiome(dx, dz);
-            ChunkPopulator.INSTANCE.decorate(chunk, context, px, py, pz);
+            ChunkPopulator.INSTANCE.decorate(writer, context, px, py, pz);
         });
+        // heightmaps must be up to date before structure bases are flattened
+        writer.flush();
         terrainHelper.flatten(world, chunk, context.blockX, context.blockZ);
+        profiler.end("chunk/populateNoise", start);
     }
 
     @Override
     public final void buildSurface(ChunkRegion world, Chunk chunk) {
+        long start = profiler.start();
+        Timings<Biome> surfaceTimings = profiler.timings("surface/", biome -> String.valueOf(Registry.BIOME.getId(biome)));
+        Timings<ColumnDecorator> decoratorTimings = profiler.timings("decorator/", Profiler::getName);
         ChunkSurfaceBuffer buffer = new ChunkSurfaceBuffer(chunk);
         SurfaceContext context = getContext().surface(buffer, getConfig());
         TerraBiomeArray container = getBiomeContainer(chunk);
@@ -172,22 +189,33 @@ public class TerraChunkGenerator extends ObfHelperChunkGenerator<ChunkGeneratorC
             context.biome = container.getBiome(dx, dz);
             context.noise = getSurfaceNoise(px, pz) * 15D;
 
+            long surfaceStart = surfaceTimings.start();
             getSurfaceManager().getSurface(context).buildSurface(px, pz, top, context);
+            surfaceTimings.end(context.biome, surfaceStart);
 
             int py = (int) (cell.value * getMaxY());
             for (ColumnDecorator processor : getBaseDecorators()) {
+                long decoratorStart = decoratorTimings.start();
                 processor.decorate(buffer, context, px, py, pz);
+                decoratorTimings.end(processor, decoratorStart);
             }
         });
+        buffer.getWriter().flush();
+        surfaceTimings.flush();
+        decoratorTimings.flush();
+        profiler.end("chunk/buildSurface", start);
     }
 
     @Override
     public void carve(BiomeAccess biomeAccess, Chunk chunk, GenerationStep.Carver carver) {
+        long start = profiler.start();
         super.carve(biomeAccess, new ChunkCarverFix(chunk, context.materials), carver);
+        profiler.end("chunk/carve", start);
     }
 
     @Override
     public void generateFeatures(ChunkRegion region) {
+        long start = profiler.start();
         int chunkX = region.getCenterChunkX();
         int chunkZ = region.getCenterChunkZ();
         Chunk chunk = region.getChunk(chunkX, chunkZ);
@@ -206,10 +234,12 @@ public class TerraChunkGenerator extends ObfHelperChunkGenerator<ChunkGeneratorC
 
         // bake biome array & discard gen data
         ((ProtoChunk) chunk).setBiomes(container.bakeBiomes());
+        profiler.end("chunk/generateFeatures", start);
     }
 
     @Override
     public final void postProcess(ChunkReader chunk, TerraBiomeArray container, DecoratorContext context) {
+        Timings<ColumnDecorator> timings = profiler.timings("decorator/", Profiler::getName);
         chunk.iterate((cell, dx, dz) -> {
             int px = context.blockX + dx;
             int pz = context.blockZ + dz;
@@ -217,9 +247,12 @@ public class TerraChunkGenerator extends ObfHelperChunkGenerator<ChunkGeneratorC
             context.cell = cell;
             context.biome = container.getBiome(dx, dz);
             for (ColumnDecorator decorator : getPostProcessors()) {
+                long start = timings.start();
                 decorator.decorate(context.chunk, context, px, py, pz);
+                timings.end(decorator, start);
             }
         });
+        timings.flush();
     }
 
     @Override
@@ -227,13 +260,11 @@ public class TerraChunkGenerator extends ObfHelperChunkGenerator<ChunkGeneratorC
         return this.sampleHeight(x, z, heightmapType); // todo may be wrong
     }
 
+    // used by structure placement, often for chunks that will never be generated, so reads the heightmap directly
+    // rather than generating a region. this also keeps placement independent of which regions are already cached
     @Override
     public int sampleHeight(int x, int z, Heightmap.Type type) {
-        int chunkX = Size.blockToChunk(x);
-        int chunkZ = Size.blockToChunk(z);
-        ChunkReader chunk = getChunkReader(chunkX, chunkZ);
-        Cell<?> cell = chunk.getCell(x, z);
-        return (int) (cell.value * getMaxY());
+        return (int) (heightLookup.getValue(x, z) * getMaxY());
     }
 
     @Override
@@ -256,6 +287,10 @@ public class TerraChunkGenerator extends ObfHelperChunkGenerator<ChunkGeneratorC
         return getContext().levels.groundLevel;
     }
 
+    public final Profiler getProfiler() {
+        return profiler;
+    }
+
     public final TerraContext getContext() {
         return context;
     }
@@ -284,13 +319,32 @@ public class TerraChunkGenerator extends ObfHelperChunkGenerator<ChunkGeneratorC
         return postProcessors;
     }
 
+    // persists the chunk's cell snapshot so that partially generated chunks can resume without regenerating the region
+    public void writeChunkData(Chunk chunk, CompoundTag level) {
+        if (chunk instanceof ProtoChunk && !(chunk instanceof ReadOnlyChunk)) {
+            if (chunk.getBiomeArray() instanceof TerraBiomeArray) {
+                level.put(CHUNK_DATA, ((TerraBiomeArray) chunk.getBiomeArray()).serialize());
+            }
+        }
+    }
+
+    public void readChunkData(ProtoChunk chunk, CompoundTag level) {
+        if (chunk instanceof ReadOnlyChunk || !level.contains(CHUNK_DATA, 10)) {
+            return;
+        }
+        TerraBiomeArray container = TerraBiomeArray.deserialize(level.getCompound(CHUNK_DATA), chunk.getPos(), context.terrain);
+        if (container != null) {
+            chunk.setBiomes(container);
+        }
+    }
+
     protected TerraBiomeArray getBiomeContainer(Chunk chunk) {
         if (chunk.getBiomeArray() instanceof TerraBiomeArray) {
             return (TerraBiomeArray) chunk.getBiomeArray();
         }
 
         ChunkReader view = getChunkReader(chunk.getPos().x, chunk.getPos().z);
-        TerraBiomeArray container = getBiomeSource().createBiomeContainer(view);
+        TerraBiomeArray container = getBiomeSource().createBiomeContainer(view).compact();
         if (chunk instanceof ProtoChunk) {
             ((ProtoChunk) chunk).setBiomes(container);
         }
@@ -364,7 +418,7 @@ public class TerraChunkGenerator extends ObfHelperChunkGenerator<ChunkGeneratorC
         }
         if (context.terraSettings.features.smoothLayerDecorator) {
             Log.info(" - Smooth layer decorator enabled");
-            processors.add(new LayerDecorator(context.materials.getLayerManager()));
+            processors.add(new LayerDecorator(context.materials));
         }
         return processors;
     }
@@ -372,13 +426,23 @@ public class TerraChunkGenerator extends ObfHelperChunkGenerator<ChunkGeneratorC
     protected RegionCache createRegionCache(TerraContext context) {
         return RegionGenerator.builder()
                 .legacy(context.terraSettings.version == 0)
-                .pool(ThreadPool.getFixed())
+                .tiledErosion(context.terraSettings.version >= 2)
+                .executors(context.executors)
+                .focus(regionFocus)
                 .factory(context.factory)
-                .size(3, 2)
+                .size(REGION_FACTOR, 2)
                 .build()
                 .toCache();
     }
 
+    public RegionFocus getRegionFocus() {
+        return regionFocus;
+    }
+
+    public RegionPrefetcher getRegionPrefetcher() {
+        return regionPrefetcher;
+    }
+
     public ChunkReader getChunkReader(int chunkX, int chunkZ) {
         return regionCache.getChunk(chunkX, chunkZ);
     }
@@ -27,6 +27,7 @@ package com.terraforged.mod.chunk;
 
 import com.terraforged.api.chunk.column.DecoratorContext;
 import com.terraforged.api.chunk.surface.SurfaceContext;
+import com.terraforged.core.util.concurrent.WorldExecutors;
 import com.terraforged.core.world.GeneratorContext;
 import com.terraforged.core.world.WorldGeneratorFactory;
 import com.terraforged.core.world.heightmap.Heightmap;
@@ -45,6 +46,7 @@ public class TerraContext extends GeneratorContext {
     public final Heightmap heightmap;
     public final Materials materials;
     public final WorldGeneratorFactory factory;
+    public final WorldExecutors executors;
     public final TerraSettings terraSettings;
 
     public TerraContext(IWorld world, Terrains terrain, TerraSettings settings) {
@@ -53,6 +55,7 @@ public class TerraContext extends GeneratorContext {
         this.materials = new Materials();
         this.terraSettings = settings;
         this.factory = new WorldGeneratorFactory(this);
+        this.executors = WorldExecutors.create("TerraForged");
         this.heightmap = factory.getHeightmap();
         ItemStack stack = new ItemStack(Items.COBBLESTONE);
         stack.getMaxCount();
@@ -27,7 +27,6 @@ package com.terraforged.mod.chunk.fix;
 
 import com.terraforged.api.chunk.ChunkDelegate;
 import com.terraforged.api.material.state.States;
-import com.terraforged.mod.material.MaterialHelper;
 import com.terraforged.mod.material.Materials;
 import net.minecraft.block.BlockState;
 import net.minecraft.util.math.BlockPos;
@@ -51,22 +50,20 @@ public class ChunkCarverFix implements ChunkDelegate {
     @Override
     public BlockState getBlockState(BlockPos pos) {
         BlockState state = getDelegate().getBlockState(pos);
-        if (MaterialHelper.isAir(state.getBlock())) {
+        int flags = materials.getFlags(state);
+        if (flags == 0 || (flags & Materials.AIR) != 0) {
             return state;
         }
-        if (MaterialHelper.isGrass(state.getBlock())) {
+        if ((flags & Materials.GRASS) != 0) {
             return States.GRASS_BLOCK.get();
         }
-        if (materials.isStone(state.getBlock())) {
+        if ((flags & Materials.STONE) != 0) {
             return States.STONE.get();
         }
-        if (materials.isEarth(state.getBlock())) {
+        if ((flags & (Materials.EARTH | Materials.CLAY)) != 0) {
             return States.DIRT.get();
         }
-        if (materials.isClay(state.getBlock())) {
-            return States.DIRT.get();
-        }
-        if (materials.isSediment(state.getBlock())) {
+        if ((flags & Materials.SEDIMENT) != 0) {
             return States.SAND.get();
         }
         return state;
@@ -0,0 +1,107 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2020 TerraForged
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.terraforged.mod.chunk.profiler;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Keeps a rolling window of the most recent timing samples (in nanoseconds) so that
+ * percentiles reflect current behaviour rather than the whole lifetime of the world.
+ */
+public class Histogram {
+
+    private final int mask;
+    private final String name;
+    private final AtomicLongArray samples;
+    private final AtomicLong counter = new AtomicLong();
+
+    public Histogram(String name, int windowBits) {
+        int size = 1 << windowBits;
+        this.name = name;
+        this.mask = size - 1;
+        this.samples = new AtomicLongArray(size);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void record(long nanos) {
+        long index = counter.getAndIncrement();
+        samples.lazySet((int) (index & mask), nanos);
+    }
+
+    public void reset() {
+        counter.set(0L);
+    }
+
+    public Snapshot snapshot() {
+        long total = counter.get();
+        int count = (int) Math.min(total, samples.length());
+        long[] values = new long[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = samples.get(i);
+        }
+        Arrays.sort(values);
+        return new Snapshot(name, total, percentile(values, 0.5F), percentile(values, 0.99F), percentile(values, 1F));
+    }
+
+    private static long percentile(long[] sorted, float percentile) {
+        if (sorted.length == 0) {
+            return 0L;
+        }
+        int index = Math.round((sorted.length - 1) * percentile);
+        return sorted[index];
+    }
+
+    public static class Snapshot {
+
+        public final String name;
+        public final long count;
+        public final long p50;
+        public final long p99;
+        public final long max;
+
+        private Snapshot(String name, long count, long p50, long p99, long max) {
+            this.name = name;
+            this.count = count;
+            this.p50 = p50;
+            this.p99 = p99;
+            this.max = max;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: p50=%.3fms, p99=%.3fms, max=%.3fms (n=%s)", name, millis(p50), millis(p99), millis(max), count);
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000D;
+        }
+    }
+}
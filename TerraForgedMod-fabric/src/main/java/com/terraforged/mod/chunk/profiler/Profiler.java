@@ -0,0 +1,92 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2020 TerraForged
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.terraforged.mod.chunk.profiler;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+public class Profiler {
+
+    private static final int WINDOW_BITS = 10;
+
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final Function<String, Histogram> factory = name -> new Histogram(name, WINDOW_BITS);
+
+    private volatile boolean enabled = false;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the start time of a timed section, or 0 if the profiler is disabled
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public void end(String name, long start) {
+        if (start != 0L) {
+            record(name, System.nanoTime() - start);
+        }
+    }
+
+    public void record(String name, long nanos) {
+        histograms.computeIfAbsent(name, factory).record(nanos);
+    }
+
+    /**
+     * Creates an accumulator for summing many short timings (ie per-column) into a single sample per chunk
+     */
+    public <T> Timings<T> timings(String prefix, Function<T, String> namer) {
+        return enabled ? new Timings<>(this, prefix, namer) : Timings.none();
+    }
+
+    public static String getName(Object o) {
+        return o.getClass().getSimpleName();
+    }
+
+    public void reset() {
+        histograms.values().forEach(Histogram::reset);
+    }
+
+    public List<Histogram.Snapshot> snapshot() {
+        List<Histogram.Snapshot> list = new ArrayList<>(histograms.size());
+        for (Histogram histogram : histograms.values()) {
+            list.add(histogram.snapshot());
+        }
+        list.sort(Comparator.comparing(snapshot -> snapshot.name));
+        return list;
+    }
+}
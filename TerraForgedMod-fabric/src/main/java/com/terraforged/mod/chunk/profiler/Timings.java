@@ -0,0 +1,87 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2020 TerraForged
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.terraforged.mod.chunk.profiler;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Sums the time spent in each keyed section (ie a ColumnDecorator or a biome's surface) over
+ * the course of a single chunk so that only one sample per key is recorded to the profiler.
+ * Keys are compared by identity. Not thread-safe - one instance per chunk task.
+ */
+public class Timings<T> {
+
+    private final String prefix;
+    private final Profiler profiler;
+    private final Function<T, String> namer;
+
+    private int size = 0;
+    private Object[] keys = new Object[8];
+    private long[] totals = new long[8];
+
+    Timings(Profiler profiler, String prefix, Function<T, String> namer) {
+        this.prefix = prefix;
+        this.namer = namer;
+        this.profiler = profiler;
+    }
+
+    public long start() {
+        return profiler == null ? 0L : System.nanoTime();
+    }
+
+    public void end(T key, long start) {
+        if (start == 0L) {
+            return;
+        }
+        long time = System.nanoTime() - start;
+        for (int i = 0; i < size; i++) {
+            if (keys[i] == key) {
+                totals[i] += time;
+                return;
+            }
+        }
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            totals = Arrays.copyOf(totals, size * 2);
+        }
+        keys[size] = key;
+        totals[size] = time;
+        size++;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void flush() {
+        for (int i = 0; i < size; i++) {
+            profiler.record(prefix + namer.apply((T) keys[i]), totals[i]);
+        }
+        size = 0;
+    }
+
+    static <T> Timings<T> none() {
+        return new Timings<>(null, "", t -> "");
+    }
+}
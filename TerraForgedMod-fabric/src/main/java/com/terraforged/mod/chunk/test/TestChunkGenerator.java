@@ -29,7 +29,6 @@ import com.terraforged.core.cell.Cell;
 import com.terraforged.core.cell.Populator;
 import com.terraforged.core.region.RegionCache;
 import com.terraforged.core.region.RegionGenerator;
-import com.terraforged.core.util.concurrent.ThreadPool;
 import com.terraforged.core.world.GeneratorContext;
 import com.terraforged.core.world.WorldGeneratorFactory;
 import com.terraforged.core.world.heightmap.WorldHeightmap;
@@ -52,8 +51,9 @@ public class TestChunkGenerator extends TerraChunkGenerator {
     protected RegionCache createRegionCache(TerraContext context) {
         return RegionGenerator.builder()
                 .factory(new WorldGeneratorFactory(context, new TestHeightMap(context)))
-                .pool(ThreadPool.getFixed())
-                .size(3, 2)
+                .executors(context.executors)
+                .focus(getRegionFocus())
+                .size(REGION_FACTOR, 2)
                 .build()
                 .toCache(true);
     }
@@ -32,12 +32,15 @@ import com.mojang.brigadier.context.CommandContext;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
 import com.terraforged.core.cell.Cell;
+import com.terraforged.core.region.RegionPrefetcher;
 import com.terraforged.core.world.WorldGenerator;
 import com.terraforged.core.world.terrain.Terrain;
 import com.terraforged.core.world.terrain.Terrains;
 import com.terraforged.mod.biome.provider.BiomeProvider;
 import com.terraforged.mod.chunk.TerraChunkGenerator;
 import com.terraforged.mod.chunk.TerraContext;
+import com.terraforged.mod.chunk.profiler.Histogram;
+import com.terraforged.mod.chunk.profiler.Profiler;
 import com.terraforged.mod.command.arg.BiomeArgType;
 import com.terraforged.mod.command.arg.TerrainArgType;
 import com.terraforged.mod.command.search.BiomeSearchTask;
@@ -87,6 +90,15 @@ public class TerraCommand {
                                 .executes(TerraCommand::dump)))
                 .then(CommandManager.literal("debug")
                         .executes(TerraCommand::debugBiome))
+                .then(CommandManager.literal("profiler")
+                        .then(CommandManager.literal("start")
+                                .executes(context -> toggleProfiler(context, true)))
+                        .then(CommandManager.literal("stop")
+                                .executes(context -> toggleProfiler(context, false)))
+                        .then(CommandManager.literal("reset")
+                                .executes(TerraCommand::resetProfiler))
+                        .then(CommandManager.literal("dump")
+                                .executes(TerraCommand::dumpProfiler)))
                 .then(CommandManager.literal("locate")
                         .then(CommandManager.argument("biome", BiomeArgType.biome())
                                 .executes(TerraCommand::findBiome)
@@ -146,6 +158,41 @@ public class TerraCommand {
         return Command.SINGLE_SUCCESS;
     }
 
+    private static int toggleProfiler(CommandContext<ServerCommandSource> context, boolean enabled) throws CommandSyntaxException {
+        Profiler profiler = getProfiler(context);
+        profiler.setEnabled(enabled);
+        context.getSource().sendFeedback(
+                new LiteralText(enabled ? "Chunk profiler started" : "Chunk profiler stopped"),
+                true
+        );
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private static int resetProfiler(CommandContext<ServerCommandSource> context) throws CommandSyntaxException {
+        getProfiler(context).reset();
+        context.getSource().sendFeedback(new LiteralText("Chunk profiler reset"), true);
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private static int dumpProfiler(CommandContext<ServerCommandSource> context) throws CommandSyntaxException {
+        Profiler profiler = getProfiler(context);
+        if (!profiler.isEnabled()) {
+            context.getSource().sendFeedback(new LiteralText("Chunk profiler is not running"), false);
+        }
+        for (Histogram.Snapshot snapshot : profiler.snapshot()) {
+            if (snapshot.count > 0) {
+                context.getSource().sendFeedback(new LiteralText(snapshot.toString()), false);
+            }
+        }
+        RegionPrefetcher prefetcher = getGenerator(context).getRegionPrefetcher();
+        context.getSource().sendFeedback(new LiteralText(String.format(
+                "Region prefetch: %d queued, %.1f%% of region requests ready",
+                prefetcher.getPrefetched(),
+                prefetcher.getHitRate() * 100F
+        )), false);
+        return Command.SINGLE_SUCCESS;
+    }
+
     private static int findTerrain(CommandContext<ServerCommandSource> context) throws CommandSyntaxException {
         // get the generator's context
         TerraContext terraContext = getContext(context).orElseThrow(() -> createException(
@@ -160,7 +207,7 @@ public class TerraCommand {
         MinecraftServer server = context.getSource().getMinecraftServer();
         WorldGenerator worldGenerator = terraContext.factory.get();
         Search search = new TerrainSearchTask(pos, worldGenerator, target);
-        doSearch(server, playerID, search);
+        doSearch(server, terraContext, playerID, search);
         context.getSource().sendFeedback(new LiteralText("Searching..."), false);
 
         return Command.SINGLE_SUCCESS;
@@ -179,7 +226,7 @@ public class TerraCommand {
         MinecraftServer server = context.getSource().getMinecraftServer();
         ServerWorld reader = context.getSource().getPlayer().getServerWorld();
         Search search = new BiomeSearchTask(pos, reader, biome);
-        doSearch(server, playerID, search);
+        doSearch(server, terraContext, playerID, search);
         context.getSource().sendFeedback(new LiteralText("Searching..."), false);
 
         return Command.SINGLE_SUCCESS;
@@ -203,14 +250,14 @@ public class TerraCommand {
         Search biomeSearch = new BiomeSearchTask(pos, world, biome);
         Search terrainSearch = new TerrainSearchTask(pos, worldGenerator, target);
         Search search = new BothSearchTask(pos, biomeSearch, terrainSearch);
-        doSearch(server, playerID, search);
+        doSearch(server, terraContext, playerID, search);
         context.getSource().sendFeedback(new LiteralText("Searching..."), false);
 
         return Command.SINGLE_SUCCESS;
     }
 
-    private static void doSearch(MinecraftServer server, UUID userId, Supplier<BlockPos> supplier) {
-        CompletableFuture.supplyAsync(supplier).thenAcceptAsync(pos -> {
+    private static void doSearch(MinecraftServer server, TerraContext terraContext, UUID userId, Supplier<BlockPos> supplier) {
+        CompletableFuture.supplyAsync(supplier, terraContext.executors.background()).thenAcceptAsync(pos -> {
             PlayerEntity player = server.getPlayerManager().getPlayer(userId);
             if (player == null) {
                 return;
@@ -239,6 +286,23 @@ public class TerraCommand {
         return Optional.empty();
     }
 
+    private static Profiler getProfiler(CommandContext<ServerCommandSource> context) throws CommandSyntaxException {
+        return getGenerator(context).getProfiler();
+    }
+
+    private static TerraChunkGenerator getGenerator(CommandContext<ServerCommandSource> context) throws CommandSyntaxException {
+        MinecraftServer server = context.getSource().getMinecraftServer();
+        DimensionType dimension = context.getSource().getPlayer().dimension;
+        ChunkGenerator<?> generator = server.getWorld(dimension).getChunkManager().getChunkGenerator();
+        if (generator instanceof TerraChunkGenerator) {
+            return (TerraChunkGenerator) generator;
+        }
+        throw createException(
+                "Invalid world type",
+                "This command can only be run in a TerraForged world!"
+        );
+    }
+
     // the terrain parsed from the command will not be the same instance as used in the
     // world generator, so find the matching instance by name
     private static Terrain getTerrainInstance(Terrain find, Terrains terrains) {
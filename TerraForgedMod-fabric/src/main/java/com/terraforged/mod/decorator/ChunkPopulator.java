@@ -26,6 +26,7 @@
 package com.terraforged.mod.decorator;
 
 import com.terraforged.api.chunk.column.ColumnDecorator;
+import com.terraforged.api.chunk.column.ColumnWriter;
 import com.terraforged.api.chunk.column.DecoratorContext;
 import com.terraforged.api.material.state.States;
 import net.minecraft.world.chunk.Chunk;
@@ -34,16 +35,26 @@ public class ChunkPopulator implements ColumnDecorator {
 
     public static final ChunkPopulator INSTANCE = new ChunkPopulator();
 
+    /**
+     * Writes a single column through a ColumnWriter. Bulk callers should share one writer across the chunk and call
+     * decorate(ColumnWriter, ...) instead so that its heightmaps are only recomputed once
+     */
     @Override
     public void decorate(Chunk chunk, DecoratorContext context, int x, int y, int z) {
+        ColumnWriter writer = new ColumnWriter(chunk);
+        decorate(writer, context, x, y, z);
+        writer.flush();
+    }
+
+    public void decorate(ColumnWriter writer, DecoratorContext context, int x, int y, int z) {
         if (context.cell.tag == context.terrains.volcanoPipe && context.cell.riverMask > 0.25F) {
             int lavaStart = Math.max(context.levels.waterY + 10, y - 30);
             int lavaEnd = Math.max(5, context.levels.waterY - 10);
-            fillDown(context, chunk, x, z, lavaStart, lavaEnd, States.LAVA.get());
+            writer.fillDown(x, z, lavaStart, lavaEnd, States.LAVA.get());
             y = lavaEnd;
         } else if (y < context.levels.waterLevel) {
-            fillDown(context, chunk, x, z, context.levels.waterY, y, States.WATER.get());
+            writer.fillDown(x, z, context.levels.waterY, y, States.WATER.get());
         }
-        fillDown(context, chunk, x, z, y, 0, States.STONE.get());
+        writer.fillDown(x, z, y, 0, States.STONE.get());
     }
 }
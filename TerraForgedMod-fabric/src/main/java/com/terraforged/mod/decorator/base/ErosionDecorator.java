@@ -92,10 +92,10 @@ public class ErosionDecorator implements ColumnDecorator {
         BlockState top = config.getTopMaterial();
         BlockState middle = config.getUnderMaterial();
 
-        if (materials.isErodible(top.getBlock())) {
+        if (materials.isErodible(top)) {
             BlockState material = getMaterial(x, z, context, top, middle);
             if (material != top) {
-                if (materials.isStone(material.getBlock())) {
+                if (materials.isStone(material)) {
                     erodeRock(context, chunk, x, y, z);
                     return;
                 } else {
@@ -113,7 +113,7 @@ public class ErosionDecorator implements ColumnDecorator {
         for (int dy = 3; dy < 32; dy++) {
             context.pos.setY(y - dy);
             BlockState state = chunk.getBlockState(context.pos);
-            if (materials.isStone(state.getBlock())) {
+            if (materials.isStone(state)) {
                 material = state;
                 depth = dy + 1;
                 break;
@@ -28,12 +28,17 @@ package com.terraforged.mod.decorator.base;
 import com.terraforged.api.chunk.column.ColumnDecorator;
 import com.terraforged.api.chunk.column.DecoratorContext;
 import com.terraforged.api.chunk.surface.ChunkSurfaceBuffer;
+import com.terraforged.core.world.geology.Geology;
+import com.terraforged.core.world.geology.Strata;
+import com.terraforged.mod.material.geology.ChunkGeology;
 import com.terraforged.mod.material.geology.GeoManager;
+import net.minecraft.block.BlockState;
 import net.minecraft.world.chunk.Chunk;
 
 public class GeologyDecorator implements ColumnDecorator {
 
     private final GeoManager geology;
+    private final ThreadLocal<ChunkGeology> chunkGeology = ThreadLocal.withInitial(ChunkGeology::new);
 
     public GeologyDecorator(GeoManager geology) {
         this.geology = geology;
@@ -47,10 +52,15 @@ public class GeologyDecorator implements ColumnDecorator {
     @Override
     public void decorate(ChunkSurfaceBuffer buffer, DecoratorContext context, int x, int y, int z) {
         int top = buffer.getSurfaceBottom();
-        geology.getGeology(context.biome).getStrata(x, z).downwards(x, top, z, (py, state) -> {
-            context.pos.set(x, py, z);
-            buffer.getDelegate().setBlockState(context.pos, state, false);
-            return true;
-        });
+        int dx = x & 15;
+        int dz = z & 15;
+
+        ChunkGeology cache = chunkGeology.get();
+        cache.init(context.blockX, context.blockZ);
+
+        Geology<BlockState> geology = this.geology.getGeology(context.biome);
+        Strata<BlockState> strata = cache.getStrata(geology, dx, dz);
+        float[] depths = cache.getDepths(strata, dx, dz);
+        cache.fill(buffer.getWriter(), strata, depths, x, top, z);
     }
 }
@@ -31,17 +31,19 @@ import com.terraforged.api.material.layer.LayerManager;
 import com.terraforged.api.material.layer.LayerMaterial;
 import com.terraforged.core.cell.Cell;
 import com.terraforged.core.world.heightmap.Levels;
-import com.terraforged.mod.material.MaterialHelper;
+import com.terraforged.mod.material.Materials;
 import net.minecraft.block.BlockState;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.chunk.Chunk;
 
 public class LayerDecorator implements ColumnDecorator {
 
+    private final Materials materials;
     private final LayerManager layerManager;
 
-    public LayerDecorator(LayerManager layerManager) {
-        this.layerManager = layerManager;
+    public LayerDecorator(Materials materials) {
+        this.materials = materials;
+        this.layerManager = materials.getLayerManager();
     }
 
     @Override
@@ -56,7 +58,7 @@ public class LayerDecorator implements ColumnDecorator {
             return;
         }
 
-        if (MaterialHelper.isAir(state.getBlock())) {
+        if (materials.isAir(state)) {
             return;
         }
 
@@ -65,7 +67,7 @@ public class LayerDecorator implements ColumnDecorator {
             // block below is solid
             if (chunk.getBlockState(context.pos.set(x, y, z)).getMaterial().blocksMovement()) {
                 // block above is air
-                if (MaterialHelper.isAir(chunk.getBlockState(context.pos.set(x, y + 2, z)).getBlock())) {
+                if (materials.isAir(chunk.getBlockState(context.pos.set(x, y + 2, z)))) {
 //                    setLayer(chunk, pos.setPos(x, y + 1, z), context.cell, context.levels, 0.25F);
                 }
             }
@@ -78,7 +80,7 @@ public class LayerDecorator implements ColumnDecorator {
         if (depth > min) {
             int level = material.getLevel(depth);
             BlockState layer = material.getState(level);
-            if (MaterialHelper.isAir(layer.getBlock())) {
+            if (materials.isAir(layer)) {
                 return;
             }
             chunk.setBlockState(pos, layer, false);
@@ -34,8 +34,10 @@ import com.terraforged.core.settings.Settings;
 import com.terraforged.core.util.concurrent.ThreadPool;
 import com.terraforged.core.world.GeneratorContext;
 import com.terraforged.core.world.WorldGeneratorFactory;
+import com.terraforged.core.world.heightmap.Levels;
 import com.terraforged.core.world.terrain.Terrain;
 import com.terraforged.core.world.terrain.Terrains;
+import com.terraforged.mod.mixin.NativeImageAccessor;
 import com.terraforged.mod.util.nbt.NBTHelper;
 import me.dags.noise.util.NoiseUtil;
 import net.minecraft.client.MinecraftClient;
@@ -45,15 +47,17 @@ import net.minecraft.client.gui.widget.ButtonWidget;
 import net.minecraft.client.texture.NativeImage;
 import net.minecraft.client.texture.NativeImageBackedTexture;
 import net.minecraft.nbt.CompoundTag;
+import org.lwjgl.system.MemoryUtil;
 
-import java.awt.Color;
 import java.util.Random;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class Preview extends ButtonWidget {
 
     private static final int FACTOR = 4;
+    // render a 1/8 resolution pass before the full resolution one
+    private static final int[] PASSES = {FACTOR - 3, FACTOR};
+    private static final int POOL_SIZE = Math.max(1, ThreadPool.DEFAULT_POOL_SIZE / 2);
     private static final int BLOCK_SIZE = 256;//Size.chunkToBlock(1 << FACTOR);
     private static final float[] LEGEND_SCALES = {1, 0.9F, 0.75F, 0.6F};
 
@@ -62,11 +66,15 @@ public class Preview extends ButtonWidget {
     private final Random random = new Random(System.currentTimeMillis());
     private final PreviewSettings previewSettings = new PreviewSettings();
     private final NativeImageBackedTexture texture = new NativeImageBackedTexture(new NativeImage(BLOCK_SIZE, BLOCK_SIZE, true));
+    // jobs run one at a time so that superseded ones never compete with the latest for workers
+    // low priority so that an open preview doesn't starve chunk generation running in the background
+    private final ThreadPool scheduler = new ThreadPool("TerraForged-Preview", 1, Thread.MIN_PRIORITY);
+    private final ThreadPool workers = new ThreadPool("TerraForged-PreviewWorker", POOL_SIZE, Thread.MIN_PRIORITY);
+    private final AtomicReference<Frame> result = new AtomicReference<>();
 
     private int seed;
     private long lastUpdate = 0L;
-    private Settings settings = new Settings();
-    private Future<Region> task = null;
+    private Job job = null;
     private Region region = null;
 
     private String[] labels = {"Area: ", "Terrain: ", "Biome: "};
@@ -85,6 +93,12 @@ public class Preview extends ButtonWidget {
     }
 
     public void close() {
+        if (job != null) {
+            job.cancel();
+            job = null;
+        }
+        scheduler.shutdown();
+        workers.shutdown();
         texture.close();
     }
 
@@ -117,69 +131,49 @@ public class Preview extends ButtonWidget {
         NBTHelper.deserialize(prevSettings, previewSettings);
         settings.generator.seed = seed;
 
-        task = generate(settings, prevSettings);
+        // superseded jobs stop at their next checkpoint
+        if (job != null) {
+            job.cancel();
+        }
+
+        job = new Job(settings, previewSettings.mode, 101 - previewSettings.zoom);
+        scheduler.execute(job);
     }
 
     private void preRender() {
-        if (task != null && task.isDone()) {
-            try {
-                region = task.get();
-                render(region);
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            } catch (ExecutionException e) {
-                e.getCause().printStackTrace();
-            } finally {
-                task = null;
-            }
+        Frame next = result.getAndSet(null);
+        if (next != null) {
+            region = next.region;
+            render(next);
         }
     }
 
-    private void render(Region region) {
+    private void render(Frame frame) {
         NativeImage image = texture.getImage();
         if (image == null) {
             return;
         }
 
-        RenderMode renderer = previewSettings.mode;
-        Terrains terrains = Terrains.create(settings);
-        GeneratorContext context = new GeneratorContext(terrains, settings);
-
-        int stroke = 2;
-        int width = region.getBlockSize().size;
-        region.iterate((cell, x, z) -> {
-            if (x < stroke || z < stroke || x >= width - stroke || z >= width - stroke) {
-                image.setPixelRgba(x, z, Color.black.getRGB());
-            } else {
-                Color color = renderer.color(cell, context);
-                image.setPixelRgba(x, z, RenderMode.rgba(color));
+        if (image.getFormat() == NativeImage.Format.RGBA) {
+            // copy the whole buffer straight into the image's native memory
+            long pointer = ((NativeImageAccessor) (Object) image).getPointer();
+            MemoryUtil.memIntBuffer(pointer, frame.pixels.length).put(frame.pixels);
+        } else {
+            for (int z = 0; z < BLOCK_SIZE; z++) {
+                for (int x = 0; x < BLOCK_SIZE; x++) {
+                    image.setPixelRgba(x, z, frame.pixels[z * BLOCK_SIZE + x]);
+                }
             }
-        });
+        }
 
         texture.upload();
     }
 
-    private Future<Region> generate(Settings settings, CompoundTag prevSettings) {
-        NBTHelper.deserialize(prevSettings, previewSettings);
-        settings.generator.seed = seed;
-        this.settings = settings;
-
-        GeneratorContext context = new GeneratorContext(Terrains.create(settings), settings);
-
-        RegionGenerator renderer = RegionGenerator.builder()
-                .factory(new WorldGeneratorFactory(context))
-                .pool(ThreadPool.getCommon())
-                .size(FACTOR, 0)
-                .build();
-
-        return renderer.generate(offsetX, offsetZ, 101 - previewSettings.zoom, false);
-    }
-
     private void updateLegend(int mx, int my) {
         if (region != null) {
             int zoom = (101 - previewSettings.zoom);
-            int width = Math.max(1, region.getBlockSize().size * zoom);
-            int height = Math.max(1, region.getBlockSize().size * zoom);
+            int width = Math.max(1, BLOCK_SIZE * zoom);
+            int height = Math.max(1, BLOCK_SIZE * zoom);
             values[0] = width + "x" + height;
 
             if (mx >= this.x && mx <= this.x + this.width && my >= this.y && my <= this.y + this.height) {
@@ -259,4 +253,73 @@ public class Preview extends ButtonWidget {
         }
         return cell.biomeType.name().toLowerCase();
     }
+
+    private class Job implements Runnable {
+
+        private final Settings settings;
+        private final RenderMode mode;
+        private final float zoom;
+        private volatile boolean cancelled = false;
+
+        private Job(Settings settings, RenderMode mode, float zoom) {
+            this.settings = settings;
+            this.mode = mode;
+            this.zoom = zoom;
+        }
+
+        private void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public void run() {
+            if (cancelled) {
+                return;
+            }
+
+            GeneratorContext context = new GeneratorContext(Terrains.create(settings), settings);
+            WorldGeneratorFactory factory = new WorldGeneratorFactory(context);
+            float seaLevel = Levels.getSeaLevel(settings.generator);
+
+            for (int factor : PASSES) {
+                if (cancelled) {
+                    return;
+                }
+
+                RegionGenerator generator = RegionGenerator.builder()
+                        .factory(factory)
+                        .pool(workers)
+                        .size(factor, 0)
+                        .build();
+
+                // lower resolution passes cover the same area by sampling at a larger zoom
+                float passZoom = zoom * (1 << (FACTOR - factor));
+                Region region = generator.generateRegion(offsetX, offsetZ, passZoom, false);
+
+                if (cancelled) {
+                    return;
+                }
+
+                int[] pixels = new int[BLOCK_SIZE * BLOCK_SIZE];
+                mode.render(region, pixels, BLOCK_SIZE, seaLevel, workers);
+
+                if (cancelled) {
+                    return;
+                }
+
+                result.set(new Frame(region, pixels));
+            }
+        }
+    }
+
+    private static class Frame {
+
+        private final Region region;
+        private final int[] pixels;
+
+        private Frame(Region region, int[] pixels) {
+            this.region = region;
+            this.pixels = pixels;
+        }
+    }
 }
@@ -26,8 +26,10 @@
 package com.terraforged.mod.gui.preview;
 
 import com.terraforged.core.cell.Cell;
-import com.terraforged.core.world.GeneratorContext;
-import com.terraforged.core.world.heightmap.Levels;
+import com.terraforged.core.region.Region;
+import com.terraforged.core.util.concurrent.ThreadPool;
+import com.terraforged.core.util.concurrent.batcher.Batcher;
+import com.terraforged.core.world.biome.BiomeType;
 import com.terraforged.core.world.terrain.Terrain;
 import me.dags.noise.util.NoiseUtil;
 
@@ -40,10 +42,52 @@ public enum RenderMode {
     BIOME_SHAPE,
     ;
 
-    public Color color(Cell<Terrain> cell, GeneratorContext context) {
-        float baseHeight = Levels.getSeaLevel(context.settings.generator);
+    private static final int ROWS_PER_TASK = 8;
+    private static final int STROKE = 2;
+    private static final int BLACK = rgba(Color.black);
+    private static final int WATER = rgba(new Color(40, 140, 200));
+    private static final float[][] BIOME_TYPE_HSB = createBiomeTypeHSB();
+
+    /**
+     * Colours the region into the NativeImage-packed (ABGR) pixel buffer of the given width, scaling each cell up to
+     * fill it. Bands of rows are coloured in parallel on the provided pool.
+     */
+    public void render(Region region, int[] pixels, int width, float seaLevel, ThreadPool pool) {
+        int size = region.getBlockSize().size;
+        int scale = width / size;
+        try (Batcher batcher = pool.batcher(size / ROWS_PER_TASK + 1)) {
+            for (int minZ = 0; minZ < size; minZ += ROWS_PER_TASK) {
+                int startZ = minZ;
+                int endZ = Math.min(size, minZ + ROWS_PER_TASK);
+                batcher.submit(() -> render(region, pixels, width, scale, startZ, endZ, seaLevel));
+            }
+        }
+    }
+
+    private void render(Region region, int[] pixels, int width, int scale, int minZ, int maxZ, float seaLevel) {
+        int size = region.getBlockSize().size;
+        for (int cz = minZ; cz < maxZ; cz++) {
+            for (int cx = 0; cx < size; cx++) {
+                int color = rgba(region.getCell(cx, cz), seaLevel);
+                for (int dz = 0; dz < scale; dz++) {
+                    int z = cz * scale + dz;
+                    int row = z * width;
+                    for (int dx = 0; dx < scale; dx++) {
+                        int x = cx * scale + dx;
+                        if (x < STROKE || z < STROKE || x >= width - STROKE || z >= width - STROKE) {
+                            pixels[row + x] = BLACK;
+                        } else {
+                            pixels[row + x] = color;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    public int rgba(Cell<Terrain> cell, float baseHeight) {
         if (cell.value < baseHeight) {
-            return new Color(40, 140, 200);
+            return WATER;
         }
 
         float bands = 10F;
@@ -59,17 +103,16 @@ public enum RenderMode {
 
         switch (this) {
             case BIOME_SHAPE:
-                return Color.getHSBColor(cell.biome, saturation, brightness);
+                return hsb(cell.biome, saturation, brightness);
             case BIOME_TYPE:
-                Color color = cell.biomeType.getColor();
-                float[] hsb = Color.RGBtoHSB(color.getRed(), color.getGreen(), color.getBlue(), new float[3]);
-                return Color.getHSBColor(hsb[0], hsb[1], (hsb[2] * scale) + bias);
+                float[] hsb = BIOME_TYPE_HSB[cell.biomeType.ordinal()];
+                return hsb(hsb[0], hsb[1], (hsb[2] * scale) + bias);
             case MOISTURE:
-                return Color.getHSBColor(step(1 - cell.moisture, 8) * 0.65F, saturation, brightness);
+                return hsb(step(1 - cell.moisture, 8) * 0.65F, saturation, brightness);
             case TEMPERATURE:
-                return Color.getHSBColor(step(cell.temperature, 8) * 0.65F, saturation, brightness);
+                return hsb(step(cell.temperature, 8) * 0.65F, saturation, brightness);
             default:
-                return Color.black;
+                return BLACK;
         }
     }
 
@@ -77,6 +120,25 @@ public enum RenderMode {
         return ((float) NoiseUtil.round(value * steps)) / steps;
     }
 
+    // converts the packed (A)RGB value produced by Color.HSBtoRGB to NativeImage's ABGR order
+    private static int hsb(float hue, float saturation, float brightness) {
+        int rgb = Color.HSBtoRGB(hue, saturation, brightness);
+        int r = (rgb >> 16) & 0xFF;
+        int g = (rgb >> 8) & 0xFF;
+        int b = rgb & 0xFF;
+        return r + (g << 8) + (b << 16) + (255 << 24);
+    }
+
+    private static float[][] createBiomeTypeHSB() {
+        BiomeType[] types = BiomeType.values();
+        float[][] hsb = new float[types.length][];
+        for (BiomeType type : types) {
+            Color color = type.getColor();
+            hsb[type.ordinal()] = Color.RGBtoHSB(color.getRed(), color.getGreen(), color.getBlue(), new float[3]);
+        }
+        return hsb;
+    }
+
     public static int rgba(Color color) {
         return color.getRed() + (color.getGreen() << 8) + (color.getBlue() << 16) + (255 << 24);
     }
@@ -29,6 +29,7 @@ import com.terraforged.api.material.MaterialTags;
 import com.terraforged.api.material.layer.LayerManager;
 import com.terraforged.api.material.state.States;
 import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.tag.Tag;
 import net.minecraft.util.registry.Registry;
@@ -41,6 +42,15 @@ import java.util.function.Predicate;
 
 public class Materials {
 
+    public static final int STONE = 1;
+    public static final int EARTH = 1 << 1;
+    public static final int CLAY = 1 << 2;
+    public static final int SEDIMENT = 1 << 3;
+    public static final int ORE = 1 << 4;
+    public static final int ERODIBLE = 1 << 5;
+    public static final int AIR = 1 << 6;
+    public static final int GRASS = 1 << 7;
+
     private final Set<Block> stone = create(MaterialTags.WG_ROCK);
     private final Set<Block> dirt = create(MaterialTags.WG_EARTH);
     private final Set<Block> clay = create(MaterialTags.WG_CLAY);
@@ -48,6 +58,7 @@ public class Materials {
     private final Set<Block> ore = create(MaterialTags.WG_ORE);
     private final Set<Block> erodible = create(MaterialTags.WG_ERODIBLE);
     private final LayerManager layerManager = new LayerManager();
+    private final byte[] flags;
 
     public Materials() {
         Predicate<Block> filter = getTagFilter();
@@ -76,12 +87,39 @@ public class Materials {
         if (stone.isEmpty()) {
             stone.add(Blocks.STONE);
         }
+
+        this.flags = createFlags();
     }
 
     public LayerManager getLayerManager() {
         return layerManager;
     }
 
+    /**
+     * Returns the classification bits for the given state, looked up in a table indexed by the state's raw id.
+     * Resolving the raw id is itself a map lookup, but it replaces the chain of block set lookups.
+     */
+    public int getFlags(BlockState state) {
+        int id = Block.getRawIdFromState(state);
+        // unregistered states resolve to id 0 (air) so only trust that id for air itself
+        if (id >= flags.length || (id == 0 && state.getBlock() != Blocks.AIR)) {
+            return computeFlags(state.getBlock());
+        }
+        return flags[id] & 0xFF;
+    }
+
+    public boolean isStone(BlockState state) {
+        return (getFlags(state) & STONE) != 0;
+    }
+
+    public boolean isErodible(BlockState state) {
+        return (getFlags(state) & ERODIBLE) != 0;
+    }
+
+    public boolean isAir(BlockState state) {
+        return (getFlags(state) & AIR) != 0;
+    }
+
     public boolean isStone(Block block) {
         return stone.contains(block);
     }
@@ -141,6 +179,53 @@ public class Materials {
         return Collections.unmodifiableSet(ore);
     }
 
+    private byte[] createFlags() {
+        int size = 0;
+        for (Block block : Registry.BLOCK) {
+            for (BlockState state : block.getStateManager().getStates()) {
+                size = Math.max(size, Block.getRawIdFromState(state) + 1);
+            }
+        }
+
+        byte[] flags = new byte[size];
+        for (Block block : Registry.BLOCK) {
+            byte value = (byte) computeFlags(block);
+            for (BlockState state : block.getStateManager().getStates()) {
+                flags[Block.getRawIdFromState(state)] = value;
+            }
+        }
+        return flags;
+    }
+
+    private int computeFlags(Block block) {
+        int flags = 0;
+        if (stone.contains(block)) {
+            flags |= STONE;
+        }
+        if (dirt.contains(block)) {
+            flags |= EARTH;
+        }
+        if (clay.contains(block)) {
+            flags |= CLAY;
+        }
+        if (sediment.contains(block)) {
+            flags |= SEDIMENT;
+        }
+        if (ore.contains(block)) {
+            flags |= ORE;
+        }
+        if (erodible.contains(block)) {
+            flags |= ERODIBLE;
+        }
+        if (MaterialHelper.isAir(block)) {
+            flags |= AIR;
+        }
+        if (MaterialHelper.isGrass(block)) {
+            flags |= GRASS;
+        }
+        return flags;
+    }
+
     private static Set<Block> create(Tag<Block> tag) {
         return new HashSet<>(tag.values());
     }
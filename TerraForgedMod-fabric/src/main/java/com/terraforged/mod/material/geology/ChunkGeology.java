@@ -0,0 +1,182 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2020 TerraForged
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.terraforged.mod.material.geology;
+
+import com.terraforged.api.chunk.column.ColumnWriter;
+import com.terraforged.core.world.geology.Geology;
+import com.terraforged.core.world.geology.Strata;
+import com.terraforged.core.world.geology.Stratum;
+import net.minecraft.block.BlockState;
+
+import java.util.Arrays;
+
+/**
+ * Samples geology noise on a coarse lattice across a chunk. Strata selection uses the nearest
+ * lattice point whilst layer depths are bilinearly interpolated between lattice points.
+ * Lattices are computed lazily per Geology/Strata encountered in the chunk and the backing
+ * arrays are reused between chunks. Not thread-safe - intended to be held per thread.
+ */
+public class ChunkGeology implements Stratum.Filler<BlockState> {
+
+    private static final int SPACING = 4;
+    private static final int SHIFT = 2;
+    private static final int LATTICE = (16 / SPACING) + 1;
+    private static final int POINTS = LATTICE * LATTICE;
+    private static final float STEP = 1F / SPACING;
+
+    private final Lattices selectors = new Lattices();
+    private final Lattices depths = new Lattices();
+
+    private int blockX;
+    private int blockZ;
+    private boolean initialized = false;
+
+    private float[] buffer = new float[32];
+
+    // current fill target
+    private int fillX;
+    private int fillZ;
+    private ColumnWriter writer;
+
+    public void init(int blockX, int blockZ) {
+        if (!initialized || blockX != this.blockX || blockZ != this.blockZ) {
+            this.blockX = blockX;
+            this.blockZ = blockZ;
+            this.initialized = true;
+            this.selectors.clear();
+            this.depths.clear();
+        }
+    }
+
+    public Strata<BlockState> getStrata(Geology<BlockState> geology, int dx, int dz) {
+        float[] lattice = selectors.get(geology);
+        if (lattice == null) {
+            lattice = selectors.put(geology, 1);
+            for (int lz = 0; lz < LATTICE; lz++) {
+                for (int lx = 0; lx < LATTICE; lx++) {
+                    float x = blockX + (lx << SHIFT);
+                    float z = blockZ + (lz << SHIFT);
+                    lattice[lz * LATTICE + lx] = geology.getSelectorValue(x, z);
+                }
+            }
+        }
+        // nearest lattice point - the selector is a cell noise so values must not be blended
+        int lx = (dx + (SPACING >> 1)) >> SHIFT;
+        int lz = (dz + (SPACING >> 1)) >> SHIFT;
+        return geology.getStrata(lattice[lz * LATTICE + lx]);
+    }
+
+    public float[] getDepths(Strata<BlockState> strata, int dx, int dz) {
+        int layers = strata.size();
+        float[] lattice = depths.get(strata);
+        if (lattice == null) {
+            lattice = depths.put(strata, layers);
+            float[] sample = getBuffer(layers);
+            for (int lz = 0; lz < LATTICE; lz++) {
+                for (int lx = 0; lx < LATTICE; lx++) {
+                    float x = blockX + (lx << SHIFT);
+                    float z = blockZ + (lz << SHIFT);
+                    strata.getDepths(x, z, sample);
+                    System.arraycopy(sample, 0, lattice, (lz * LATTICE + lx) * layers, layers);
+                }
+            }
+        }
+
+        int lx = dx >> SHIFT;
+        int lz = dz >> SHIFT;
+        float tx = (dx & (SPACING - 1)) * STEP;
+        float tz = (dz & (SPACING - 1)) * STEP;
+        int i00 = (lz * LATTICE + lx) * layers;
+        int i10 = i00 + layers;
+        int i01 = i00 + LATTICE * layers;
+        int i11 = i01 + layers;
+
+        float[] result = getBuffer(layers);
+        for (int i = 0; i < layers; i++) {
+            float top = lattice[i00 + i] + (lattice[i10 + i] - lattice[i00 + i]) * tx;
+            float bottom = lattice[i01 + i] + (lattice[i11 + i] - lattice[i01 + i]) * tx;
+            result[i] = top + (bottom - top) * tz;
+        }
+        return result;
+    }
+
+    public void fill(ColumnWriter writer, Strata<BlockState> strata, float[] depths, int x, int y, int z) {
+        this.writer = writer;
+        this.fillX = x;
+        this.fillZ = z;
+        strata.downwards(y, depths, this);
+        this.writer = null;
+    }
+
+    @Override
+    public void fill(int from, int to, BlockState value) {
+        writer.fillDown(fillX, fillZ, from, to, value);
+    }
+
+    private float[] getBuffer(int size) {
+        if (buffer.length < size) {
+            buffer = new float[size];
+        }
+        return buffer;
+    }
+
+    private static class Lattices {
+
+        private int size = 0;
+        private Object[] keys = new Object[4];
+        private float[][] values = new float[4][];
+
+        private float[] get(Object key) {
+            for (int i = 0; i < size; i++) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+            }
+            return null;
+        }
+
+        private float[] put(Object key, int stride) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            int length = POINTS * stride;
+            float[] value = values[size];
+            if (value == null || value.length < length) {
+                value = new float[length];
+                values[size] = value;
+            }
+            keys[size] = key;
+            size++;
+            return value;
+        }
+
+        private void clear() {
+            Arrays.fill(keys, 0, size, null);
+            size = 0;
+        }
+    }
+}
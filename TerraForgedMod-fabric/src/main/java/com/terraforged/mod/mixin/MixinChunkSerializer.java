@@ -0,0 +1,61 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2020 TerraForged
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.terraforged.mod.mixin;
+
+import com.terraforged.mod.chunk.TerraChunkGenerator;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.structure.StructureManager;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.ChunkSerializer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ProtoChunk;
+import net.minecraft.world.gen.chunk.ChunkGenerator;
+import net.minecraft.world.poi.PointOfInterestStorage;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Mixin(ChunkSerializer.class)
+public abstract class MixinChunkSerializer {
+
+    @Inject(method = "serialize", at = @At("RETURN"))
+    private static void onSerialize(ServerWorld world, Chunk chunk, CallbackInfoReturnable<CompoundTag> info) {
+        ChunkGenerator<?> generator = world.getChunkManager().getChunkGenerator();
+        if (generator instanceof TerraChunkGenerator) {
+            ((TerraChunkGenerator) generator).writeChunkData(chunk, info.getReturnValue().getCompound("Level"));
+        }
+    }
+
+    @Inject(method = "deserialize", at = @At("RETURN"))
+    private static void onDeserialize(ServerWorld world, StructureManager structures, PointOfInterestStorage poi, ChunkPos pos, CompoundTag tag, CallbackInfoReturnable<ProtoChunk> info) {
+        ChunkGenerator<?> generator = world.getChunkManager().getChunkGenerator();
+        if (generator instanceof TerraChunkGenerator) {
+            ((TerraChunkGenerator) generator).readChunkData(info.getReturnValue(), tag.getCompound("Level"));
+        }
+    }
+}
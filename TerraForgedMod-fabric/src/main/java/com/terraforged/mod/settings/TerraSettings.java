@@ -31,7 +31,7 @@ import com.terraforged.core.util.serialization.annotation.Serializable;
 @Serializable
 public class TerraSettings extends Settings {
 
-    public int version = 1;
+    public int version = 2;
 
     public FeatureSettings features = new FeatureSettings();
 
@@ -28,15 +28,19 @@ package com.terraforged.mod.util.nbt;
 import com.google.gson.JsonElement;
 import com.mojang.datafixers.Dynamic;
 import com.mojang.datafixers.types.JsonOps;
+import com.terraforged.core.region.chunk.ChunkSnapshot;
 import com.terraforged.core.util.serialization.serializer.Serializer;
+import com.terraforged.core.world.terrain.Terrain;
 import net.minecraft.datafixer.NbtOps;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.StringTag;
 import net.minecraft.nbt.Tag;
 
 import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 public class NBTHelper {
@@ -113,4 +117,79 @@ public class NBTHelper {
             e.printStackTrace();
         }
     }
+
+    public static CompoundTag writeSnapshot(ChunkSnapshot snapshot) {
+        ListTag palette = new ListTag();
+        for (Terrain terrain : snapshot.getPalette()) {
+            palette.add(StringTag.of(terrain.getName()));
+        }
+
+        CompoundTag tag = new CompoundTag();
+        tag.putIntArray("height", toInts(snapshot.getHeightData()));
+        tag.putIntArray("erosion", toInts(snapshot.getErosionData()));
+        tag.putIntArray("sediment", toInts(snapshot.getSedimentData()));
+        tag.putIntArray("channels", toInts(snapshot.getChannelData()));
+        tag.putByteArray("biomeType", snapshot.getBiomeTypeData());
+        tag.putByteArray("terrain", snapshot.getTerrainData());
+        tag.put("palette", palette);
+        return tag;
+    }
+
+    // returns null if the tag does not hold a valid snapshot
+    public static ChunkSnapshot readSnapshot(CompoundTag tag, int chunkX, int chunkZ, Function<String, Terrain> terrains) {
+        ListTag paletteList = tag.getList("palette", 8);
+        Terrain[] palette = new Terrain[paletteList.size()];
+        for (int i = 0; i < palette.length; i++) {
+            palette[i] = terrains.apply(paletteList.getString(i));
+        }
+
+        try {
+            return ChunkSnapshot.of(
+                    chunkX,
+                    chunkZ,
+                    toFloats(tag.getIntArray("height")),
+                    toFloats(tag.getIntArray("erosion")),
+                    toFloats(tag.getIntArray("sediment")),
+                    toChars(tag.getIntArray("channels")),
+                    tag.getByteArray("biomeType"),
+                    tag.getByteArray("terrain"),
+                    palette
+            );
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static int[] toInts(float[] values) {
+        int[] ints = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            ints[i] = Float.floatToRawIntBits(values[i]);
+        }
+        return ints;
+    }
+
+    private static float[] toFloats(int[] ints) {
+        float[] values = new float[ints.length];
+        for (int i = 0; i < ints.length; i++) {
+            values[i] = Float.intBitsToFloat(ints[i]);
+        }
+        return values;
+    }
+
+    // packs two 16bit values per int
+    private static int[] toInts(char[] values) {
+        int[] ints = new int[(values.length + 1) >> 1];
+        for (int i = 0; i < values.length; i++) {
+            ints[i >> 1] |= values[i] << ((i & 1) << 4);
+        }
+        return ints;
+    }
+
+    private static char[] toChars(int[] ints) {
+        char[] values = new char[ints.length << 1];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (char) (ints[i >> 1] >>> ((i & 1) << 4));
+        }
+        return values;
+    }
 }
@@ -52,7 +52,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 public class TerraWorld extends WorldType {
-    public static final int VERSION = 1;
+    public static final int VERSION = 2;
 
     private static final Set<WorldType> types = new HashSet<>();
     public static final TerraWorld TERRA = new TerraWorld("terraforged", TerraChunkGenerator::new);
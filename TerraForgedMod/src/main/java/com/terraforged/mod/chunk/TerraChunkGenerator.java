@@ -370,6 +370,7 @@ public class TerraChunkGenerator extends ObfHelperChunkGenerator<GenerationSetti
     protected RegionCache createRegionCache(TerraContext context) {
         return RegionGenerator.builder()
                 .legacy(context.terraSettings.version == 0)
+                .tiledErosion(context.terraSettings.version >= 2)
                 .pool(ThreadPool.getFixed())
                 .factory(context.factory)
                 .size(3, 2)